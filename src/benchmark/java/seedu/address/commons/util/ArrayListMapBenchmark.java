@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+
+/**
+ * Compares key lookups in {@link ArrayListMap} against the linear {@code ArrayList#indexOf} scan
+ * it used to rely on.
+ * Run with {@code gradlew benchmark -Pbenchmark=commons.util.ArrayListMapBenchmark}.
+ */
+public class ArrayListMapBenchmark {
+    private static final int[] SIZES = {10, 1_000, 10_000};
+    private static final int LOOKUPS = 100_000;
+
+    public static void main(String[] args) {
+        for (int size : SIZES) {
+            ArrayListMap<String, Integer> map = new ArrayListMap<>();
+            ArrayList<String> linearKeys = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                map.put("key" + i, i);
+                linearKeys.add("key" + i);
+            }
+
+            long hashedNanos = time(() -> {
+                long sum = 0;
+                for (int i = 0; i < LOOKUPS; i++) {
+                    sum += map.get("key" + (i % size));
+                }
+                return sum;
+            });
+            long linearNanos = time(() -> {
+                long sum = 0;
+                for (int i = 0; i < LOOKUPS; i++) {
+                    sum += linearKeys.indexOf("key" + (i % size));
+                }
+                return sum;
+            });
+
+            System.out.printf("%6d keys: hashed %8.1f ns/lookup, linear %10.1f ns/lookup%n",
+                    size, (double) hashedNanos / LOOKUPS, (double) linearNanos / LOOKUPS);
+        }
+    }
+
+    /**
+     * Returns the time taken by {@code task} after one warm-up run.
+     */
+    private static long time(LongTask task) {
+        task.run();
+        long start = System.nanoTime();
+        long result = task.run();
+        long elapsed = System.nanoTime() - start;
+        if (result == Long.MIN_VALUE) {
+            System.out.println(result);
+        }
+        return elapsed;
+    }
+
+    /**
+     * A benchmark body that returns a value so that the JIT cannot discard the work.
+     */
+    private interface LongTask {
+        long run();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.MarkAttendanceCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long {@code LogicManager#execute} blocks for 500 back-to-back {@code mark-attendance} commands,
+ * with the address book saved synchronously and through {@link AsyncAddressBookStorage}.
+ * Run with {@code gradlew benchmark -Pbenchmark=storage.AsyncAddressBookStorageBenchmark}.
+ */
+public class AsyncAddressBookStorageBenchmark {
+    private static final int PERSONS = 2_000;
+    private static final int COMMANDS = 500;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("async-storage-benchmark");
+
+        JsonAddressBookStorage syncStorage = new JsonAddressBookStorage(folder.resolve("sync.json"));
+        run("synchronous", syncStorage, folder);
+
+        AsyncAddressBookStorage asyncStorage =
+                new AsyncAddressBookStorage(new JsonAddressBookStorage(folder.resolve("async.json")));
+        run("asynchronous", asyncStorage, folder);
+    }
+
+    private static void run(String label, AddressBookStorage addressBookStorage, Path folder) throws Exception {
+        ModelManager model = new ModelManager(createAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(folder.resolve("prefs.json")));
+        Logic logic = new LogicManager(model, storage);
+
+        long totalNanos = 0;
+        long worstNanos = 0;
+        for (int i = 0; i < COMMANDS; i++) {
+            String command = MarkAttendanceCommand.COMMAND_WORD + " n/Student " + (i % PERSONS)
+                    + " g/Tutorial w/" + (i % 13 + 1);
+            long start = System.nanoTime();
+            logic.execute(command);
+            long elapsed = System.nanoTime() - start;
+            totalNanos += elapsed;
+            worstNanos = Math.max(worstNanos, elapsed);
+        }
+        long flushStart = System.nanoTime();
+        storage.flushAddressBook();
+        long flushNanos = System.nanoTime() - flushStart;
+
+        System.out.printf("%-12s execute: total %7.1f ms, worst %6.2f ms; final flush %6.1f ms%n",
+                label, totalNanos / 1e6, worstNanos / 1e6, flushNanos / 1e6);
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        Group group = new Group("Tutorial");
+        addressBook.addGroup(group);
+        for (int i = 0; i < PERSONS; i++) {
+            Person person = new PersonBuilder().withName("Student " + i).build();
+            addressBook.addPerson(person);
+            addressBook.addPersonToGroup(person, group);
+        }
+        return addressBook;
+    }
+}
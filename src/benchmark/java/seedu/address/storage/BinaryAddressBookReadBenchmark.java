@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long the startup read of the data file takes for a data set that is about 100 MB as json
+ * (100k persons in groups of 100 with graded assignments), read as json, as binary copied onto the heap,
+ * and as memory-mapped binary. The first read in a fresh JVM is the closest to a cold start, so it is reported
+ * along with the best of several reads.
+ * Run with {@code gradlew benchmark -Pbenchmark=storage.BinaryAddressBookReadBenchmark}, passing {@code json},
+ * {@code heap} or {@code mapped} in {@code --args} to measure one path per JVM.
+ */
+public class BinaryAddressBookReadBenchmark {
+    private static final int PERSONS = 100_000;
+    private static final int MEMBERS_PER_GROUP = 100;
+    private static final int ASSIGNMENTS_PER_GROUP = 5;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "mapped";
+        Path folder = Files.createTempDirectory("binary-read-benchmark");
+        Path jsonFile = folder.resolve("addressbook.json");
+        Path binaryFile = folder.resolve("addressbook.bin");
+        AddressBook addressBook = createAddressBook();
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+        new BinaryAddressBookStorage(binaryFile, null).saveAddressBook(addressBook);
+        addressBook = null;
+        System.gc();
+
+        Reader reader = switch (mode) {
+        case "json" -> () -> new JsonAddressBookStorage(jsonFile).readAddressBook().get();
+        case "heap" -> () -> BinaryAddressBookFormat.read(ByteBuffer.wrap(Files.readAllBytes(binaryFile)));
+        default -> () -> new BinaryAddressBookStorage(binaryFile, null).readAddressBook().get();
+        };
+        long firstNanos = 0;
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            reader.read();
+            long elapsed = System.nanoTime() - start;
+            firstNanos = i == 0 ? elapsed : firstNanos;
+            bestNanos = Math.min(bestNanos, elapsed);
+        }
+        System.out.printf("%-6s json %.1f MB, binary %.1f MB: first read %7.1f ms, best read %7.1f ms%n", mode,
+                Files.size(jsonFile) / 1e6, Files.size(binaryFile) / 1e6, firstNanos / 1e6, bestNanos / 1e6);
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < PERSONS; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        List<Person> personList = addressBook.getPersonList();
+        for (int g = 0; g * MEMBERS_PER_GROUP < PERSONS; g++) {
+            Group group = new Group("Tutorial " + g);
+            addressBook.addGroup(group);
+            for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                addressBook.addAssignmentToGroup("Lab " + a, LocalDate.of(2099, 1, 1), group, 0f);
+            }
+            for (int m = 0; m < MEMBERS_PER_GROUP; m++) {
+                Person person = personList.get(g * MEMBERS_PER_GROUP + m);
+                addressBook.addPersonToGroup(person, group);
+                addressBook.markAttendance(person, group, m % 13 + 1);
+                for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                    addressBook.gradeAssignment(person, group, "Lab " + a, (float) (m % 100));
+                }
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the benchmark data set.
+     */
+    private interface Reader {
+        Object read() throws Exception;
+    }
+}
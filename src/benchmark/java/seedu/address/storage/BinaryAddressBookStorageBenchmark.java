@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the file size, save latency and load latency of {@link JsonAddressBookStorage} and
+ * {@link BinaryAddressBookStorage} at 1k, 10k and 100k persons, each in a group of 100 with graded assignments.
+ * Run with {@code gradlew benchmark -Pbenchmark=storage.BinaryAddressBookStorageBenchmark}.
+ */
+public class BinaryAddressBookStorageBenchmark {
+    private static final int[] PERSON_COUNTS = {1_000, 10_000, 100_000};
+    private static final int MEMBERS_PER_GROUP = 100;
+    private static final int ASSIGNMENTS_PER_GROUP = 5;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("binary-storage-benchmark");
+        for (int persons : PERSON_COUNTS) {
+            AddressBook addressBook = createAddressBook(persons);
+            run(persons, "json", new JsonAddressBookStorage(folder.resolve(persons + ".json")), addressBook);
+            run(persons, "binary", new BinaryAddressBookStorage(folder.resolve(persons + ".bin"), null), addressBook);
+        }
+    }
+
+    private static void run(int persons, String label, AddressBookStorage storage, AddressBook addressBook)
+            throws Exception {
+        long bestSaveNanos = Long.MAX_VALUE;
+        long bestLoadNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            bestSaveNanos = Math.min(bestSaveNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            storage.readAddressBook();
+            bestLoadNanos = Math.min(bestLoadNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%,7d persons %-6s size %8.1f KB, save %7.1f ms, load %7.1f ms%n", persons, label,
+                Files.size(storage.getAddressBookFilePath()) / 1e3, bestSaveNanos / 1e6, bestLoadNanos / 1e6);
+    }
+
+    private static AddressBook createAddressBook(int persons) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < persons; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        List<Person> personList = addressBook.getPersonList();
+        for (int g = 0; g * MEMBERS_PER_GROUP < persons; g++) {
+            Group group = new Group("Tutorial " + g);
+            addressBook.addGroup(group);
+            for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                addressBook.addAssignmentToGroup("Lab " + a, LocalDate.of(2099, 1, 1), group, 0f);
+            }
+            for (int m = 0; m < MEMBERS_PER_GROUP && g * MEMBERS_PER_GROUP + m < persons; m++) {
+                Person person = personList.get(g * MEMBERS_PER_GROUP + m);
+                addressBook.addPersonToGroup(person, group);
+                addressBook.markAttendance(person, group, m % 13 + 1);
+                for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                    addressBook.gradeAssignment(person, group, "Lab " + a, (float) (m % 100));
+                }
+            }
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the file size, compression ratio, save latency and load latency of plain, compact and gzip-compressed
+ * json data files at several {@link Deflater} levels, for 10k persons in groups of 100 with graded assignments.
+ * Run with {@code gradlew benchmark -Pbenchmark=storage.JsonAddressBookCompressionBenchmark}.
+ */
+public class JsonAddressBookCompressionBenchmark {
+    private static final int PERSONS = 10_000;
+    private static final int MEMBERS_PER_GROUP = 100;
+    private static final int ASSIGNMENTS_PER_GROUP = 5;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Path folder = Files.createTempDirectory("compression-benchmark");
+        AddressBook addressBook = createAddressBook();
+        long plainSize = run("plain", new JsonAddressBookStorage(folder.resolve("plain.json")), addressBook, 0);
+        run("compact", new JsonAddressBookStorage(folder.resolve("compact.json"), true), addressBook, plainSize);
+        for (int level : new int[] {Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION}) {
+            String label = "gzip " + (level == Deflater.DEFAULT_COMPRESSION ? 6 : level);
+            Path filePath = folder.resolve("level" + level + ".json.gz");
+            run(label, new JsonAddressBookStorage(filePath, false, level), addressBook, plainSize);
+        }
+    }
+
+    private static long run(String label, AddressBookStorage storage, AddressBook addressBook, long plainSize)
+            throws Exception {
+        long bestSaveNanos = Long.MAX_VALUE;
+        long bestLoadNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            bestSaveNanos = Math.min(bestSaveNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            storage.readAddressBook().get().getGroupList().forEach(Group::getGroupDetails);
+            bestLoadNanos = Math.min(bestLoadNanos, System.nanoTime() - start);
+        }
+        long size = Files.size(storage.getAddressBookFilePath());
+        System.out.printf("%-8s size %8.1f KB, ratio %5.1fx, save %7.1f ms, load %7.1f ms%n", label, size / 1e3,
+                plainSize == 0 ? 1.0 : (double) plainSize / size, bestSaveNanos / 1e6, bestLoadNanos / 1e6);
+        return size;
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < PERSONS; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        List<Person> personList = addressBook.getPersonList();
+        for (int g = 0; g * MEMBERS_PER_GROUP < PERSONS; g++) {
+            Group group = new Group("Tutorial " + g);
+            addressBook.addGroup(group);
+            for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                addressBook.addAssignmentToGroup("Lab " + a, LocalDate.of(2099, 1, 1), group, 0f);
+            }
+            for (int m = 0; m < MEMBERS_PER_GROUP; m++) {
+                Person person = personList.get(g * MEMBERS_PER_GROUP + m);
+                addressBook.addPersonToGroup(person, group);
+                addressBook.markAttendance(person, group, m % 13 + 1);
+                for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                    addressBook.gradeAssignment(person, group, "Lab " + a, (float) (m % 100));
+                }
+            }
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the load time and peak heap of reading an address book by binding the whole file to a
+ * {@link JsonSerializableAddressBook} first ("tree"), with {@link JsonSerializableAddressBook#read} ("streaming"),
+ * and with {@link JsonAddressBookStorage#readAddressBook()}, which skips validation once the saved checksum matches
+ * ("trusted", including the time taken to check the checksum).
+ * Run with {@code gradlew benchmark -Pbenchmark=storage.JsonAddressBookLoadBenchmark}, optionally passing
+ * {@code tree}, {@code streaming} or {@code trusted} in {@code --args} to measure one path per JVM, followed by the
+ * number of persons and groups to load.
+ */
+public class JsonAddressBookLoadBenchmark {
+    private static final int DEFAULT_PERSONS = 20_000;
+    private static final int DEFAULT_GROUPS = 50;
+    private static final int MEMBERS_PER_GROUP = 400;
+    private static final int ASSIGNMENTS_PER_GROUP = 10;
+    private static final int RUNS = 5;
+
+    private static int persons = DEFAULT_PERSONS;
+    private static int groups = DEFAULT_GROUPS;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 2) {
+            persons = Integer.parseInt(args[1]);
+            groups = Integer.parseInt(args[2]);
+        }
+        Path file = Files.createTempFile("load-benchmark", ".json");
+        new JsonAddressBookStorage(file).saveAddressBook(createAddressBook());
+        System.out.printf("%d persons, %d groups of %d members: %.1f MB%n",
+                persons, groups, MEMBERS_PER_GROUP, Files.size(file) / 1e6);
+
+        String mode = args.length > 0 ? args[0] : "all";
+        if (mode.equals("all") || mode.equals("tree")) {
+            run("tree", file, () -> JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get()
+                    .toModelType());
+        }
+        if (mode.equals("all") || mode.equals("streaming")) {
+            run("streaming", file, () -> {
+                try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+                    return JsonSerializableAddressBook.read(parser, false);
+                }
+            });
+        }
+        if (mode.equals("all") || mode.equals("trusted")) {
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+            run("trusted", file, () -> new AddressBook(storage.readAddressBook().get()));
+        }
+        Files.delete(file);
+        Files.deleteIfExists(JsonAddressBookChecksum.getChecksumFilePath(file));
+    }
+
+    private static void run(String label, Path file, Loader loader) throws Exception {
+        long bestNanos = Long.MAX_VALUE;
+        long peakBytes = 0;
+        for (int i = 0; i < RUNS; i++) {
+            List<MemoryPoolMXBean> heapPools = resetHeapPeaks();
+            long baseline = usedHeap();
+            long start = System.nanoTime();
+            AddressBook addressBook = loader.load();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+
+            long peak = 0;
+            for (MemoryPoolMXBean pool : heapPools) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+            peakBytes = Math.max(peakBytes, peak - baseline);
+            if (addressBook.getPersonList().size() != persons) {
+                throw new AssertionError("Loaded the wrong number of persons");
+            }
+        }
+        System.out.printf("%-10s best load %7.1f ms, peak heap above baseline %7.1f MB%n",
+                label, bestNanos / 1e6, peakBytes / 1e6);
+    }
+
+    private static List<MemoryPoolMXBean> resetHeapPeaks() {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        return heapPools;
+    }
+
+    private static long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < persons; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Student " + i).build());
+        }
+        List<Person> personList = addressBook.getPersonList();
+        for (int g = 0; g < groups; g++) {
+            Group group = new Group("Tutorial " + g);
+            addressBook.addGroup(group);
+            for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                addressBook.addAssignmentToGroup("Lab " + a, LocalDate.of(2099, 1, 1), group, 0f);
+            }
+            for (int m = 0; m < MEMBERS_PER_GROUP; m++) {
+                Person person = personList.get((g * MEMBERS_PER_GROUP + m) % persons);
+                addressBook.addPersonToGroup(person, group);
+                addressBook.markAttendance(person, group, m % 13 + 1);
+                for (int a = 0; a < ASSIGNMENTS_PER_GROUP; a++) {
+                    addressBook.gradeAssignment(person, group, "Lab " + a, (float) (m % 100));
+                }
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Loads an address book from the benchmark file.
+     */
+    private interface Loader {
+        AddressBook load() throws Exception;
+    }
+}
@@ -20,6 +20,8 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * When a script is given with {@code --script=FILE}, its commands are run without starting JavaFX at all.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
@@ -35,6 +37,11 @@ public class Main {
         // the user (if looking at the log output) that the said warning appearing in the log
         // can be ignored.
 
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getScriptPath() != null) {
+            System.exit(new MainApp().runScript(appParameters));
+        }
+
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -15,6 +16,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptRunner;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,8 +25,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,6 +44,13 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** Exit status of a script run in which every command ran successfully and the data was saved. */
+    public static final int EXIT_STATUS_SUCCESS = 0;
+    /** Exit status of a script run in which a command failed or the data could not be saved. */
+    public static final int EXIT_STATUS_SCRIPT_FAILED = 1;
+    /** Exit status of a script run in which the script could not be read. */
+    public static final int EXIT_STATUS_SCRIPT_UNREADABLE = 2;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -51,20 +64,71 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Runs the commands in the script given by {@code appParameters} without starting JavaFX, then stops,
+     * even if running the script fails.
+     *
+     * @return the exit status of the run, one of the {@code EXIT_STATUS_} constants.
+     */
+    public int runScript(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook script ]=========================");
+        initComponents(appParameters);
+        try {
+            boolean isSuccessful = new ScriptRunner(logic, appParameters.getCheckpointInterval(), System.out)
+                    .run(appParameters.getScriptPath());
+            return isSuccessful ? EXIT_STATUS_SUCCESS : EXIT_STATUS_SCRIPT_FAILED;
+        } catch (IOException e) {
+            logger.severe("Failed to read script " + StringUtil.getDetails(e));
+            System.err.println("Could not read script " + appParameters.getScriptPath() + ": " + e.getMessage());
+            return EXIT_STATUS_SCRIPT_UNREADABLE;
+        } finally {
+            // also reached if a command throws an unchecked exception, so that the saves already queued are written
+            stop();
+        }
+    }
+
+    /**
+     * Initializes every component other than the UI.
+     */
+    private void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(new AsyncAddressBookStorage(addressBookStorage), userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        logger.info("Using data file format : " + userPrefs.getAddressBookFormat());
+        switch (userPrefs.getAddressBookFormat()) {
+        case COMPACT_JSON:
+            return new JsonAddressBookStorage(jsonFilePath, true);
+        case JOURNAL:
+            return new JournalAddressBookStorage(jsonFilePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath), jsonFilePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(ShardedAddressBookStorage.getShardFolderPath(jsonFilePath),
+                    jsonFilePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(jsonFilePath, false);
+        }
     }
 
     /**
@@ -78,7 +142,9 @@ public class MainApp extends Application {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
+            long loadStart = System.nanoTime();
             addressBookOptional = storage.readAddressBook();
+            logger.info("Read data file in " + (System.nanoTime() - loadStart) / 1_000_000 + " ms");
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
@@ -172,6 +238,8 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Main window shown " + (System.currentTimeMillis()
+                - ManagementFactory.getRuntimeMXBean().getStartTime()) + " ms after launch");
     }
 
     @Override
@@ -182,5 +250,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to finish writing data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -6,6 +6,8 @@ import java.util.Map;
 
 /**
  * A Map implementation backed by ArrayLists and compares using Object#equals.
+ * Entries keep their insertion order and can be accessed by position, while key lookups
+ * go through the hash index of the underlying {@link ArrayListSet}.
  *
  * @param <K> The type of the keys in the map.
  * @param <V> The type of the values in the map.
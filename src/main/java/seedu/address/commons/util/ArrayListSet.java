@@ -2,18 +2,32 @@ package seedu.address.commons.util;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * A Set implementation backed by ArrayLists and compares using Object#equals.
+ * Elements keep their insertion order, and a hash index from each element to its position
+ * makes {@link #contains(Object)} and {@link #indexOf(Object)} constant-time.
+ * Elements must not change their {@code hashCode} while they are in the set.
  * @param <K> The type of the keys in the set.
  */
 public class ArrayListSet<K> implements Set<K> {
     private final ArrayList<K> keys;
 
+    /**
+     * Maps each element to its position in {@code keys}.
+     */
+    private final HashMap<Object, Integer> positions;
+
+    /**
+     * Creates a new empty ArrayListSet.
+     */
     public ArrayListSet() {
         this.keys = new ArrayList<>();
+        this.positions = new HashMap<>();
     }
 
     @Override
@@ -28,12 +42,39 @@ public class ArrayListSet<K> implements Set<K> {
 
     @Override
     public boolean contains(Object o) {
-        return keys.contains(o);
+        return positions.containsKey(o);
     }
 
     @Override
     public Iterator<K> iterator() {
-        return keys.iterator();
+        return new Iterator<>() {
+            private int cursor = 0;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < keys.size();
+            }
+
+            @Override
+            public K next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = cursor++;
+                return keys.get(lastReturned);
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == -1) {
+                    throw new IllegalStateException();
+                }
+                ArrayListSet.this.remove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+            }
+        };
     }
 
     @Override
@@ -51,12 +92,17 @@ public class ArrayListSet<K> implements Set<K> {
         if (contains(k)) {
             return false;
         }
+        positions.put(k, keys.size());
         return keys.add(k);
     }
 
     @Override
     public boolean remove(Object o) {
-        return keys.remove(o);
+        int index = indexOf(o);
+        if (index == -1) {
+            return false;
+        }
+        return remove(index);
     }
 
     /**
@@ -69,13 +115,20 @@ public class ArrayListSet<K> implements Set<K> {
      * @throws IndexOutOfBoundsException {@inheritDoc}
      */
     public boolean remove(int index) {
-        keys.remove(index);
+        K removed = keys.remove(index);
+        positions.remove(removed);
+        reindexFrom(index);
         return true;
     }
 
     @Override
     public boolean containsAll(Collection<?> c) {
-        return keys.containsAll(c);
+        for (Object o : c) {
+            if (!contains(o)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -89,30 +142,59 @@ public class ArrayListSet<K> implements Set<K> {
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        return keys.retainAll(c);
+        boolean changed = keys.retainAll(c);
+        if (changed) {
+            positions.clear();
+            reindexFrom(0);
+        }
+        return changed;
     }
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        return keys.removeAll(c);
+        boolean changed = keys.removeAll(c);
+        if (changed) {
+            positions.clear();
+            reindexFrom(0);
+        }
+        return changed;
     }
 
     @Override
     public void clear() {
         keys.clear();
+        positions.clear();
     }
 
+    /**
+     * Returns the position of the given element, or -1 if it is not in the set.
+     */
     public int indexOf(Object o) {
-        return keys.indexOf(o);
+        Integer index = positions.get(o);
+        return index == null ? -1 : index;
     }
 
     public K get(int index) {
         return keys.get(index);
     }
 
+    /**
+     * Replaces the element {@code k} with {@code l}, keeping its position.
+     */
     public void set(K k, K l) {
         int index = indexOf(k);
         keys.set(index, l);
+        positions.remove(k);
+        positions.put(l, index);
+    }
+
+    /**
+     * Updates the positions of all elements from {@code start} onwards.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < keys.size(); i++) {
+            positions.put(keys.get(i), i);
+        }
     }
 
 }
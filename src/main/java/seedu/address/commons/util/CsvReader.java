@@ -0,0 +1,127 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads comma-separated values one row at a time, without holding more than the current row in memory.
+ * Fields may be quoted with double quotes, in which case they may contain commas, line breaks and doubled
+ * double quotes, which stand for one double quote.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Line %d: a quoted field is not closed";
+    public static final String MESSAGE_UNEXPECTED_QUOTE = "Line %d: a field has text after its closing quote";
+
+    private final BufferedReader reader;
+
+    /**
+     * The number of the line being read, starting from 1.
+     */
+    private int lineNumber = 1;
+
+    /**
+     * The number of the line that the last row read started on.
+     */
+    private int rowLineNumber;
+
+    /**
+     * Creates a {@code CsvReader} that reads from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next row, or null if there are no more rows.
+     * A blank line is a row of one empty field.
+     *
+     * @throws IOException if the underlying reader fails.
+     * @throws IllegalValueException if a quoted field is not closed, or has text after its closing quote.
+     */
+    public List<String> readRow() throws IOException, IllegalValueException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        rowLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == '"' && field.isEmpty()) {
+                c = readQuoted(field);
+                if (c != ',' && c != '\n' && c != '\r' && c != -1) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_QUOTE, lineNumber));
+                }
+            }
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                fields.add(field.toString());
+                if (c == '\r') {
+                    skipLineFeed();
+                }
+                if (c != -1) {
+                    lineNumber++;
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * Returns the number of the line that the last row read started on, starting from 1.
+     */
+    public int getRowLineNumber() {
+        return rowLineNumber;
+    }
+
+    /**
+     * Reads the rest of a quoted field, whose opening quote has been read, into {@code field}.
+     *
+     * @return The character after the closing quote.
+     */
+    private int readQuoted(StringBuilder field) throws IOException, IllegalValueException {
+        int startLineNumber = lineNumber;
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                throw new IllegalValueException(String.format(MESSAGE_UNTERMINATED_QUOTE, startLineNumber));
+            }
+            if (c == '"') {
+                c = reader.read();
+                if (c != '"') {
+                    return c;
+                }
+            } else if (c == '\n') {
+                lineNumber++;
+            }
+            field.append((char) c);
+        }
+    }
+
+    private void skipLineFeed() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\n') {
+            reader.reset();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -2,7 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +15,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,7 +47,67 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        try (JsonGenerator generator = createJsonGenerator(jsonFile, isCompact)) {
+            generator.writeObject(objectToSerialize);
+        }
+    }
+
+    /**
+     * Returns a generator that streams JSON into {@code filePath} through a buffer, replacing any existing content.
+     * Objects passed to {@link JsonGenerator#writeObject(Object)} are serialized the same way as by this class.
+     * The caller must close the generator, which also closes the file.
+     *
+     * @param isCompact if true, the JSON is written without indentation or line breaks.
+     */
+    public static JsonGenerator createJsonGenerator(Path filePath, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        return createJsonGenerator(new BufferedOutputStream(Files.newOutputStream(filePath)), isCompact);
+    }
+
+    /**
+     * Similar to {@link #createJsonGenerator(Path, boolean)}, but streams the JSON into {@code out} as UTF-8.
+     * Closing the generator also closes {@code out}.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out, boolean isCompact) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        if (!isCompact) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    /**
+     * Returns a parser that streams JSON from {@code filePath} through a buffer.
+     * Values read through {@link JsonParser#readValueAs(Class)} are deserialized the same way as by this class.
+     * The caller must close the parser, which also closes the file.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Similar to {@link #createJsonParser(Path)}, but streams the UTF-8 JSON in {@code in}.
+     * Closing the parser also closes {@code in}.
+     */
+    public static JsonParser createJsonParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Similar to {@link #createJsonParser(Path)}, but streams the UTF-8 JSON in {@code content}.
+     */
+    public static JsonParser createJsonParser(byte[] content) throws IOException {
+        requireNonNull(content);
+        return objectMapper.getFactory().createParser(content);
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -85,10 +152,18 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isCompact if true, the JSON is written without indentation or line breaks.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
     }
 
 
@@ -111,6 +186,13 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -24,6 +24,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets whether {@link #execute(String)} saves the address book after every command that changes it.
+     * When it does not, changes are only saved by {@link #saveAddressBook()}.
+     */
+    void setAutoSave(boolean isAutoSave);
+
+    /**
+     * Saves the address book if it has changed since it was last saved.
+     * @return true if the address book was saved.
+     * @throws CommandException If an error occurs while saving.
+     */
+    boolean saveAddressBook() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -34,6 +34,18 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /**
+     * Version of the address book that storage has confirmed is written, or -1 if nothing has been written yet.
+     */
+    private long lastSavedVersion = -1;
+
+    /**
+     * Version of the address book that was last passed to storage, which may still be writing it in the background.
+     */
+    private long lastQueuedVersion = -1;
+
+    private boolean isAutoSave = true;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -51,15 +63,80 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (isAutoSave) {
+            saveAddressBook();
+        } else {
+            checkSaved();
+        }
+        if (commandResult.isExit()) {
+            finishSaving();
+        }
+        return commandResult;
+    }
+
+    @Override
+    public void setAutoSave(boolean isAutoSave) {
+        this.isAutoSave = isAutoSave;
+    }
+
+    @Override
+    public boolean saveAddressBook() throws CommandException {
+        checkSaved();
+        long version = model.getAddressBookVersion();
+        if (version == lastQueuedVersion) {
+            return false;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            lastQueuedVersion = version;
+            if (storage.isAddressBookSaved()) {
+                lastSavedVersion = version;
+            }
+        } catch (IOException e) {
+            lastQueuedVersion = lastSavedVersion;
+            throw toCommandException(e);
         }
+        return true;
+    }
 
-        return commandResult;
+    /**
+     * Records the last queued version as saved if storage has finished writing it.
+     *
+     * @throws CommandException if a background write has failed. The address book is then saved again by the next
+     *     call to {@link #saveAddressBook()}.
+     */
+    private void checkSaved() throws CommandException {
+        try {
+            if (storage.isAddressBookSaved()) {
+                lastSavedVersion = lastQueuedVersion;
+            }
+        } catch (IOException e) {
+            lastQueuedVersion = lastSavedVersion;
+            throw toCommandException(e);
+        }
+    }
+
+    /**
+     * Blocks until storage has written every queued save.
+     *
+     * @throws CommandException if a write failed.
+     */
+    private void finishSaving() throws CommandException {
+        try {
+            storage.flushAddressBook();
+            lastSavedVersion = lastQueuedVersion;
+        } catch (IOException e) {
+            lastQueuedVersion = lastSavedVersion;
+            throw toCommandException(e);
+        }
+    }
+
+    private static CommandException toCommandException(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()), e);
     }
 
     @Override
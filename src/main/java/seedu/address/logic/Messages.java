@@ -30,7 +30,7 @@ public class Messages {
     public static final String MESSAGE_PERSON_NOT_FOUND = "This person does not exist!";
     public static final String MESSAGE_GROUP_NOT_FOUND = "This group does not exist!";
     public static final String MESSAGE_PERSON_NOT_IN_GROUP = "This person does not exist in the group!";
-    public static final String MESSAGE_INVALID_WEEK_NUM = "Week number must be between 1 and 13 (inclusive)!";
+    public static final String MESSAGE_INVALID_WEEK_NUM = "Week number must be between 1 and %d (inclusive)!";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -0,0 +1,168 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a file of commands through a {@code Logic}, one command per line, without a GUI.
+ * Blank lines and lines starting with {@code #} are skipped. Running stops at the first command that fails,
+ * or at an {@code exit} command.
+ * The address book is saved every {@code checkpointInterval} commands, or only once all commands have run if
+ * {@code checkpointInterval} is 0, rather than after every command.
+ * The time taken by each command is printed as it runs, followed by a summary of the latencies and throughput.
+ */
+public class ScriptRunner {
+
+    public static final String MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS = "Checkpoint interval should not be negative";
+    public static final String MESSAGE_COMMAND = "[line %d] %.3f ms  %s";
+    public static final String MESSAGE_COMMAND_FAILED = "[line %d] failed: %s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save after line %d: %s";
+    public static final String MESSAGE_SUMMARY = "Ran %d command(s) in %.3f ms (%.1f commands/s), "
+            + "including %d save(s) taking %.3f ms";
+    public static final String MESSAGE_LATENCIES = "Command latency: min %.3f ms, median %.3f ms, "
+            + "p95 %.3f ms, max %.3f ms";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+    private final int checkpointInterval;
+    private final PrintStream out;
+
+    private long[] latencies = new long[16];
+    private int commandCount;
+    private int saveCount;
+    private long saveNanos;
+
+    /**
+     * Creates a {@code ScriptRunner} that runs commands through {@code logic} and reports to {@code out}.
+     *
+     * @param checkpointInterval The number of commands between saves, or 0 to save only at the end.
+     */
+    public ScriptRunner(Logic logic, int checkpointInterval, PrintStream out) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        checkArgument(checkpointInterval >= 0, MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS);
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.out = out;
+    }
+
+    /**
+     * Runs every command in {@code script}, then saves the address book if it has changed, even if a command
+     * failed, so that the commands before the failed one are kept as they would be in the GUI.
+     *
+     * @return true if every command ran successfully and the address book was saved.
+     * @throws IOException if the script cannot be read.
+     */
+    public boolean run(Path script) throws IOException {
+        requireNonNull(script);
+        logger.info("Running script " + script);
+        commandCount = 0;
+        saveCount = 0;
+        saveNanos = 0;
+        logic.setAutoSave(false);
+        long start = System.nanoTime();
+        boolean isSuccessful;
+        try (BufferedReader reader = Files.newBufferedReader(script, StandardCharsets.UTF_8)) {
+            isSuccessful = runCommands(reader);
+        } finally {
+            logic.setAutoSave(true);
+        }
+        isSuccessful = save(-1) && isSuccessful;
+        report(System.nanoTime() - start);
+        return isSuccessful;
+    }
+
+    private boolean runCommands(BufferedReader reader) throws IOException {
+        int lineNumber = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            CommandResult result;
+            long commandStart = System.nanoTime();
+            try {
+                result = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                return false;
+            }
+            long latency = System.nanoTime() - commandStart;
+            recordLatency(latency);
+            out.println(String.format(MESSAGE_COMMAND, lineNumber, toMillis(latency), commandText));
+
+            if (result.isExit()) {
+                return true;
+            }
+            if (checkpointInterval > 0 && commandCount % checkpointInterval == 0 && !save(lineNumber)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Saves the address book if it has changed since it was last saved.
+     *
+     * @param lineNumber The line of the last command run, or -1 if every command has been run.
+     * @return true if the address book is saved.
+     */
+    private boolean save(int lineNumber) {
+        long saveStart = System.nanoTime();
+        try {
+            if (logic.saveAddressBook()) {
+                saveCount++;
+            }
+            return true;
+        } catch (CommandException e) {
+            out.println(String.format(MESSAGE_SAVE_FAILED, lineNumber, e.getMessage()));
+            return false;
+        } finally {
+            saveNanos += System.nanoTime() - saveStart;
+        }
+    }
+
+    private void recordLatency(long latency) {
+        if (commandCount == latencies.length) {
+            latencies = Arrays.copyOf(latencies, commandCount * 2);
+        }
+        latencies[commandCount++] = latency;
+    }
+
+    private void report(long totalNanos) {
+        double totalMillis = toMillis(totalNanos);
+        double throughput = totalNanos == 0 ? 0 : commandCount / (totalNanos / 1e9);
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, totalMillis, throughput, saveCount,
+                toMillis(saveNanos)));
+        if (commandCount == 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(latencies, commandCount);
+        Arrays.sort(sorted);
+        out.println(String.format(MESSAGE_LATENCIES, toMillis(sorted[0]), toMillis(sorted[(commandCount - 1) / 2]),
+                toMillis(sorted[(int) Math.ceil(0.95 * commandCount) - 1]), toMillis(sorted[commandCount - 1])));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+}
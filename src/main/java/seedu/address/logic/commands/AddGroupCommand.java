@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
 import java.util.ArrayList;
 import java.util.Set;
@@ -13,6 +14,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupMemberDetail;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -28,9 +30,9 @@ public class AddGroupCommand extends Command {
 
     public static final String MESSAGE_USAGE = String.format("""
                     %s: Adds a new group to the group list. Useful for adding new tutorial groups.
-                    Parameters: %sGROUP_NAME [%sTAG]...
-                    Example: %s %sCS2103T T12 %sCS""",
-            COMMAND_WORD, PREFIX_NAME, PREFIX_TAG, COMMAND_WORD, PREFIX_NAME, PREFIX_TAG);
+                    Parameters: %sGROUP_NAME [%sTAG]... [%sNUMBER_OF_WEEKS]
+                    Example: %s %sCS2103T T12 %sCS %s13""",
+            COMMAND_WORD, PREFIX_NAME, PREFIX_TAG, PREFIX_WEEK, COMMAND_WORD, PREFIX_NAME, PREFIX_TAG, PREFIX_WEEK);
 
     private static final String MESSAGE_SUCCESS = "New group added: %1$s";
     private static final String MESSAGE_DUPLICATE_GROUP = "Another group with the same name"
@@ -41,6 +43,7 @@ public class AddGroupCommand extends Command {
      */
     private final String groupName;
     private final Set<Tag> tags;
+    private final int weeks;
 
     /**
      * Creates an AddGroupCommand to add a new group with the specified name.
@@ -48,9 +51,21 @@ public class AddGroupCommand extends Command {
      * @param groupName The name of the group to be added.
      */
     public AddGroupCommand(String groupName, Set<Tag> tags) {
+        this(groupName, tags, GroupMemberDetail.WEEKS_PER_SEMESTER);
+    }
+
+    /**
+     * Creates an AddGroupCommand to add a new group with the specified name that takes attendance for
+     * {@code weeks} weeks.
+     *
+     * @param groupName The name of the group to be added.
+     * @param weeks     A valid number of weeks.
+     */
+    public AddGroupCommand(String groupName, Set<Tag> tags, int weeks) {
         requireAllNonNull(groupName, tags);
         this.groupName = groupName;
         this.tags = tags;
+        this.weeks = weeks;
     }
 
     @Override
@@ -59,6 +74,7 @@ public class AddGroupCommand extends Command {
 
         // Create a new group with the given name and an empty list of members
         Group groupToAdd = new Group(groupName, new ArrayList<Person>(), tags);
+        groupToAdd.setWeeks(weeks);
 
         // Check if the group already exists
         if (model.hasGroup(groupToAdd)) {
@@ -81,7 +97,8 @@ public class AddGroupCommand extends Command {
             return false;
         }
 
-        return groupName.equals(otherAddGroupCommand.groupName) && tags.equals(otherAddGroupCommand.tags);
+        return groupName.equals(otherAddGroupCommand.groupName) && tags.equals(otherAddGroupCommand.tags)
+                && weeks == otherAddGroupCommand.weeks;
     }
 
     @Override
@@ -89,6 +106,7 @@ public class AddGroupCommand extends Command {
         return new ToStringBuilder(this)
                 .add("groupName", groupName)
                 .add("tags", tags)
+                .add("weeks", weeks)
                 .toString();
     }
 }
@@ -97,11 +97,10 @@ public class EditGroupCommand extends Command {
 
         Group groupToEdit = lastShownList.get(index.getZeroBased());
         String groupName = newGroupName == null ? groupToEdit.getGroupName() : newGroupName;
-        Group editedGroup = createEditedGroup(groupToEdit, groupName, tags);
-
-        if (!groupToEdit.isSameGroup(editedGroup) && model.hasGroup(editedGroup)) {
+        if (!groupName.equals(groupToEdit.getGroupName()) && model.hasGroup(new Group(groupName))) {
             throw new CommandException(MESSAGE_DUPLICATE_GROUP);
         }
+        Group editedGroup = createEditedGroup(groupToEdit, groupName, tags);
 
         model.setGroup(groupToEdit, editedGroup);
         return new CommandResult(String.format(MESSAGE_EDIT_GROUP_SUCCESS, groupName), true, editedGroup);
@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupStatistics;
+import seedu.address.model.group.exceptions.GroupNotFoundException;
+
+/**
+ * Represents a command that shows the attendance and grade statistics of a group.
+ */
+public class GroupStatsCommand extends Command {
+
+    /**
+     * The command word to trigger this command.
+     */
+    public static final String COMMAND_WORD = "group-stats";
+
+    /**
+     * Usage message for the command.
+     */
+    public static final String MESSAGE_USAGE = String.format("""
+            %s: Displays the attendance rate of each week and the score statistics of each assignment of a group.
+            Parameters: %sGROUP_NAME
+            Example: %s %sCS2103T T12
+            """,
+            COMMAND_WORD, PREFIX_GROUP, COMMAND_WORD, PREFIX_GROUP);
+
+    private final String groupName;
+
+    /**
+     * Creates a {@code GroupStatsCommand} to show the statistics of a group.
+     *
+     * @param groupName The name of the group.
+     */
+    public GroupStatsCommand(String groupName) {
+        requireNonNull(groupName);
+        this.groupName = groupName;
+    }
+
+    /**
+     * Executes the command to show the statistics of the group.
+     *
+     * @param model The model in which the command should be executed.
+     * @return A CommandResult with the statistics.
+     * @throws CommandException if the group is not found.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Group group;
+        try {
+            group = model.getGroup(groupName);
+        } catch (GroupNotFoundException e) {
+            throw new CommandException("Group not found!");
+        }
+
+        GroupStatistics statistics = group.getStatistics();
+        int members = statistics.getMemberCount();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Statistics for %s (%d members):\n\n", groupName, members));
+        sb.append("Attendance:\n");
+        for (int week = 1; week <= group.getWeeks(); week++) {
+            int attended = statistics.countAttended(week);
+            sb.append(members == 0
+                    ? String.format("Week %d: 0/0\n", week)
+                    : String.format("Week %d: %d/%d (%.1f%%)\n", week, attended, members,
+                            statistics.getAttendanceRate(week) * 100));
+        }
+
+        sb.append("\nAssignments:\n");
+        if (group.getAssignments().isEmpty()) {
+            sb.append("No assignments\n");
+        }
+        for (Assignment assignment : group.getAssignments()) {
+            int graded = statistics.countGraded(assignment);
+            if (graded == 0) {
+                sb.append(String.format("%s: 0/%d graded\n", assignment.getName(), members));
+                continue;
+            }
+            sb.append(String.format("%s: %d/%d graded, mean %.2f, median %.2f, 25th percentile %.2f,"
+                            + " 75th percentile %.2f\n",
+                    assignment.getName(), graded, members, statistics.getAverage(assignment),
+                    statistics.getMedian(assignment), statistics.getPercentile(assignment, 25),
+                    statistics.getPercentile(assignment, 75)));
+        }
+
+        return new CommandResult(sb.toString());
+    }
+
+    /**
+     * Checks if this command is equal to another object.
+     *
+     * @param other The other object to compare to.
+     * @return True if both objects are GroupStatsCommand instances with the same group name.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles null cases
+        if (!(other instanceof GroupStatsCommand otherCmd)) {
+            return false;
+        }
+
+        return groupName.equals(otherCmd.groupName);
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.Messages.MESSAGE_GROUP_NOT_FOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a command that grades an assignment for the members of a group from a CSV file of names and scores.
+ */
+public class ImportGradesCommand extends Command {
+
+    /**
+     * The command word to trigger this command.
+     */
+    public static final String COMMAND_WORD = "import-grades";
+
+    /**
+     * Usage message for the command.
+     */
+    public static final String MESSAGE_USAGE = String.format("""
+                    %s: Grades the assignment for the members of a group from a CSV file with one PERSON_NAME,SCORE \\
+                    row per member, and an optional name,score header row.
+                    Parameters: %sGROUP_NAME %sASSIGNMENT_NAME %sFILE_PATH
+                    Example: %s %sCS2103T T12 %sHW 1 %sgrades/hw1.csv
+                    """,
+            COMMAND_WORD, PREFIX_GROUP, PREFIX_ASSIGNMENT, PREFIX_FILE,
+            COMMAND_WORD, PREFIX_GROUP, PREFIX_ASSIGNMENT, PREFIX_FILE);
+
+    public static final String MESSAGE_IMPORT_GRADES_SUCCESS = "Imported %d grades for %s in %s";
+    public static final String MESSAGE_ASSIGNMENT_NOT_FOUND = "Assignment not in group!";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %s: %s";
+    public static final String MESSAGE_INVALID_ROW = "Line %d: expected PERSON_NAME,SCORE";
+    public static final String MESSAGE_NOT_A_MEMBER = "Line %d: %s is not a member of the group";
+    public static final String MESSAGE_INVALID_SCORE = "Line %d: %s is not a score";
+    public static final String MESSAGE_DUPLICATE_MEMBER = "Line %d: %s is graded more than once";
+
+    private static final String HEADER_NAME = "name";
+
+    private final String groupName;
+    private final String assignmentName;
+    private final Path filePath;
+
+    /**
+     * Creates an {@code ImportGradesCommand} to grade an assignment from a CSV file.
+     *
+     * @param groupName      Name of the group.
+     * @param assignmentName Name of the assignment.
+     * @param filePath       Path of the CSV file.
+     */
+    public ImportGradesCommand(String groupName, String assignmentName, Path filePath) {
+        requireAllNonNull(groupName, assignmentName, filePath);
+        this.groupName = groupName;
+        this.assignmentName = assignmentName;
+        this.filePath = filePath;
+    }
+
+    /**
+     * Executes the command to import the grades.
+     * Every row is read and checked before any grade is given, so nothing is graded if any row is invalid.
+     *
+     * @param model The model in which the command should be executed.
+     * @return A CommandResult indicating the outcome of the command execution.
+     * @throws CommandException if the group or assignment is not found, or the file cannot be read or has an
+     *     invalid row.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Group group;
+        try {
+            group = model.getGroup(groupName);
+        } catch (GroupNotFoundException e) {
+            throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
+        }
+        if (!group.containsAssignment(assignmentName)) {
+            throw new CommandException(MESSAGE_ASSIGNMENT_NOT_FOUND);
+        }
+
+        Map<Person, Float> scores;
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            scores = readScores(reader, group);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        } catch (IllegalValueException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+
+        model.gradeAssignment(scores, group, assignmentName);
+        return new CommandResult(String.format(MESSAGE_IMPORT_GRADES_SUCCESS, scores.size(), assignmentName,
+                groupName));
+    }
+
+    /**
+     * Reads the score of every row of {@code reader}, keyed by the member of {@code group} named in the row.
+     *
+     * @throws IllegalValueException if any row is invalid.
+     */
+    private static Map<Person, Float> readScores(CsvReader reader, Group group)
+            throws IOException, IllegalValueException {
+        Map<String, Person> membersByName = new HashMap<>();
+        for (Person member : group.getGroupMembers()) {
+            membersByName.put(member.getName().fullName, member);
+        }
+
+        Map<Person, Float> scores = new LinkedHashMap<>();
+        boolean isFirstRow = true;
+        for (List<String> row = reader.readRow(); row != null; row = reader.readRow()) {
+            int line = reader.getRowLineNumber();
+            boolean isHeader = isFirstRow && row.get(0).trim().equalsIgnoreCase(HEADER_NAME);
+            isFirstRow = false;
+            if (isHeader || row.size() == 1 && row.get(0).isBlank()) {
+                continue;
+            }
+            if (row.size() != 2) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ROW, line));
+            }
+
+            String name = row.get(0).trim();
+            Person member = membersByName.get(name);
+            if (member == null) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_A_MEMBER, line, name));
+            }
+            if (scores.put(member, parseScore(row.get(1).trim(), line)) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_MEMBER, line, name));
+            }
+        }
+        return scores;
+    }
+
+    private static Float parseScore(String score, int line) throws IllegalValueException {
+        try {
+            return ParserUtil.parseScore(score);
+        } catch (ParseException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SCORE, line, score));
+        }
+    }
+
+    /**
+     * Checks if this command is equal to another object.
+     *
+     * @param other The other object to compare to.
+     * @return True if both objects are ImportGradesCommand instances with the same group, assignment and file.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles null cases
+        if (!(other instanceof ImportGradesCommand otherCmd)) {
+            return false;
+        }
+
+        return groupName.equals(otherCmd.groupName)
+                && assignmentName.equals(otherCmd.assignmentName)
+                && filePath.equals(otherCmd.filePath);
+    }
+}
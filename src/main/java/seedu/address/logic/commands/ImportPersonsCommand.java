@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonImportFile;
+import seedu.address.storage.PersonImportFile.Row;
+
+/**
+ * Adds every person in a CSV or JSON lines file to the address book.
+ */
+public class ImportPersonsCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-persons";
+
+    public static final String MESSAGE_USAGE = String.format("""
+                    %s: Adds every person in a file to the address book. The file has either one \\
+                    NAME,PHONE,EMAIL,ADDRESS[,TAGS] row per person, with TAGS separated by spaces, or, if it ends \\
+                    in .jsonl or .ndjson, one JSON person per line.
+                    Parameters: %sFILE_PATH
+                    Example: %s %scohort.csv
+                    """,
+            COMMAND_WORD, PREFIX_FILE, COMMAND_WORD, PREFIX_FILE);
+
+    public static final String MESSAGE_SUCCESS = "Imported %d persons";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %s: %s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Line %d: %s already exists in the address book";
+    public static final String MESSAGE_DUPLICATE_ROW = "Line %d: %s is also on line %d";
+
+    private final Path filePath;
+
+    /**
+     * Creates an {@code ImportPersonsCommand} to add the persons in the file at {@code filePath}.
+     */
+    public ImportPersonsCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads, validates and checks every person in the file before adding them together, so nobody is added if any
+     * of them is invalid or a duplicate.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Row> rows;
+        List<Person> persons;
+        try {
+            rows = PersonImportFile.readRows(filePath);
+            persons = PersonImportFile.toModelType(rows);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        } catch (IllegalValueException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+
+        Map<Name, Integer> lineNumbersByName = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            int lineNumber = rows.get(i).lineNumber();
+            if (model.hasPerson(person)) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, lineNumber, person.getName()));
+            }
+            Integer earlierLineNumber = lineNumbersByName.putIfAbsent(person.getName(), lineNumber);
+            if (earlierLineNumber != null) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_ROW, lineNumber, person.getName(),
+                        earlierLineNumber));
+            }
+        }
+
+        model.addPersons(persons);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportPersonsCommand otherImportPersonsCommand)) {
+            return false;
+        }
+
+        return filePath.equals(otherImportPersonsCommand.filePath);
+    }
+}
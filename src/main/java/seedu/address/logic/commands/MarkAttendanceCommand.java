@@ -10,10 +10,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.group.Group;
-import seedu.address.model.group.GroupMemberDetail;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -32,8 +34,10 @@ public class MarkAttendanceCommand extends Command {
      * Usage message for the command.
      */
     public static final String MESSAGE_USAGE = String.format("""
-                    %s: Marks the attendance of the specified person in the specified group for the specified week.
-                    Parameters: %sPERSON_NAME %sGROUP_NAME %sWEEK_NUMBER
+                    %s: Marks the attendance of the specified persons in the specified group for the specified weeks.
+                    Leave out the person to mark everyone in the group, and give a range such as 3-5 to mark \
+                    several weeks.
+                    Parameters: [%sPERSON_NAME]... %sGROUP_NAME %sWEEK_NUMBER[-LAST_WEEK_NUMBER]
                     Example: %s %sJensen Huang %sCS2103T T12 %s10
                     """,
             COMMAND_WORD, PREFIX_PERSON, PREFIX_GROUP, PREFIX_WEEK, COMMAND_WORD, PREFIX_PERSON,
@@ -42,15 +46,16 @@ public class MarkAttendanceCommand extends Command {
     /**
      * Success message for command.
      */
-    public static final String MESSAGE_MARK_ATTENDANCE_SUCCESS = "Marked attendance for %s!\nGroup: %s\nWeek %d";
+    public static final String MESSAGE_MARK_ATTENDANCE_SUCCESS = "Marked attendance for %s!\nGroup: %s\n%s";
 
 
     /**
-     * Group Member Detail object to be updated.
+     * The names of the persons to mark, or none to mark every member.
      */
-    private final String personName;
+    private final List<String> personNames;
     private final String groupName;
-    private final int week;
+    private final int firstWeek;
+    private final int lastWeek;
 
 
     /**
@@ -61,14 +66,28 @@ public class MarkAttendanceCommand extends Command {
      * @param week       The week number for which attendance is being marked.
      */
     public MarkAttendanceCommand(String personName, String groupName, int week) {
-        requireAllNonNull(personName, groupName, week);
-        this.personName = personName;
+        this(List.of(personName), groupName, week, week);
+    }
+
+    /**
+     * Creates a {@code MarkAttendanceCommand} to mark the attendance of several students for several weeks.
+     *
+     * @param personNames The names of the students, or none to mark every member of the group.
+     * @param groupName   The name of the group the students belong to.
+     * @param firstWeek   The first week for which attendance is being marked.
+     * @param lastWeek    The last week for which attendance is being marked.
+     */
+    public MarkAttendanceCommand(List<String> personNames, String groupName, int firstWeek, int lastWeek) {
+        requireAllNonNull(personNames, groupName);
+        this.personNames = List.copyOf(personNames);
         this.groupName = groupName;
-        this.week = week;
+        this.firstWeek = firstWeek;
+        this.lastWeek = lastWeek;
     }
 
     /**
      * Executes the command to mark attendance.
+     * Every person is looked up before any attendance is marked, so nothing is marked if any of them is not found.
      *
      * @param model The model in which the command should be executed.
      * @return A CommandResult indicating the outcome of the command execution.
@@ -85,33 +104,67 @@ public class MarkAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
         }
 
-        Person person;
-        try {
-            person = model.getPerson(personName);
-        } catch (PersonNotFoundException e) {
-            throw new CommandException(MESSAGE_PERSON_NOT_FOUND);
-        }
+        List<Person> persons = getMembers(model, group, personNames);
 
-        if (!GroupMemberDetail.isValidWeek(week)) {
-            throw new CommandException(MESSAGE_INVALID_WEEK_NUM);
+        if (!group.isValidWeek(firstWeek) || !group.isValidWeek(lastWeek)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_WEEK_NUM, group.getWeeks()));
         }
 
-        try {
-            model.markAttendance(person, group, week);
-        } catch (PersonNotFoundException e) {
-            throw new CommandException(MESSAGE_PERSON_NOT_IN_GROUP);
+        model.markAttendance(persons, group, firstWeek, lastWeek);
+
+        return new CommandResult(String.format(MESSAGE_MARK_ATTENDANCE_SUCCESS,
+                describeMembers(personNames, persons), groupName, describeWeeks(firstWeek, lastWeek)), true, group);
+    }
+
+    /**
+     * Returns the members of {@code group} with the given names, or every member if no names are given.
+     *
+     * @throws CommandException if any of the names is not a person, or not a member of the group.
+     */
+    static List<Person> getMembers(Model model, Group group, List<String> personNames) throws CommandException {
+        if (personNames.isEmpty()) {
+            return group.getGroupMembers();
         }
+        List<Person> persons = new ArrayList<>();
+        for (String personName : personNames) {
+            Person person;
+            try {
+                person = model.getPerson(personName);
+            } catch (PersonNotFoundException e) {
+                throw new CommandException(MESSAGE_PERSON_NOT_FOUND);
+            }
+            if (!group.contains(person)) {
+                throw new CommandException(MESSAGE_PERSON_NOT_IN_GROUP);
+            }
+            persons.add(person);
+        }
+        return persons;
+    }
 
-        return new CommandResult(String.format(MESSAGE_MARK_ATTENDANCE_SUCCESS, personName, groupName, week),
-                true, group);
+    /**
+     * Describes the members whose attendance changed, by name if only one was named.
+     */
+    static String describeMembers(List<String> personNames, List<Person> persons) {
+        if (personNames.size() == 1) {
+            return personNames.get(0);
+        }
+        return String.format(personNames.isEmpty() ? "all %d members" : "%d members", persons.size());
     }
 
+    /**
+     * Describes the weeks from {@code firstWeek} to {@code lastWeek}.
+     */
+    static String describeWeeks(int firstWeek, int lastWeek) {
+        return firstWeek == lastWeek
+                ? String.format("Week %d", firstWeek)
+                : String.format("Weeks %d-%d", firstWeek, lastWeek);
+    }
 
     /**
      * Checks if this command is equal to another object.
      *
      * @param other The other object to compare to.
-     * @return True if both objects are MarkAttendanceCommand instances with the same GroupMemberDetail and week number.
+     * @return True if both objects are MarkAttendanceCommand instances with the same persons, group and weeks.
      */
     @Override
     public boolean equals(Object other) {
@@ -124,8 +177,9 @@ public class MarkAttendanceCommand extends Command {
             return false;
         }
 
-        return personName.equals(otherCmd.personName)
+        return personNames.equals(otherCmd.personNames)
                 && groupName.equals(otherCmd.groupName)
-                && week == otherCmd.week;
+                && firstWeek == otherCmd.firstWeek
+                && lastWeek == otherCmd.lastWeek;
     }
 }
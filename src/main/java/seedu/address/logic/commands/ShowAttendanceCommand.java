@@ -83,23 +83,15 @@ public class ShowAttendanceCommand extends Command {
         }
 
         GroupMemberDetail groupMemberDetail = group.getGroupMemberDetail(person);
-        boolean[] attendance = groupMemberDetail.getAttendance();
-
-        // Count present weeks for the feedback message
-        int presentCount = 0;
-        for (boolean present : attendance) {
-            if (present) {
-                presentCount++;
-            }
-        }
+        int weeks = group.getWeeks();
 
         // Create a detailed text representation for display
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("Attendance for %s in %s:\n", personName, groupName));
-        sb.append(String.format("Total attendance: %d/%d weeks\n\n", presentCount, attendance.length));
+        sb.append(String.format("Total attendance: %d/%d weeks\n\n", groupMemberDetail.countAttendedWeeks(), weeks));
 
-        for (int i = 0; i < attendance.length; i++) {
-            sb.append(String.format("Week %d: %s\n", i + 1, attendance[i] ? "Present" : "Absent"));
+        for (int week = 1; week <= weeks; week++) {
+            sb.append(String.format("Week %d: %s\n", week, groupMemberDetail.hasAttended(week) ? "Present" : "Absent"));
         }
 
         return new CommandResult(sb.toString());
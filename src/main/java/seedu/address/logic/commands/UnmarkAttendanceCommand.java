@@ -4,19 +4,17 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_GROUP_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_WEEK_NUM;
-import static seedu.address.logic.Messages.MESSAGE_PERSON_NOT_FOUND;
-import static seedu.address.logic.Messages.MESSAGE_PERSON_NOT_IN_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.group.Group;
-import seedu.address.model.group.GroupMemberDetail;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents a command that unmarks a student's attendance for a particular group and week.
@@ -32,10 +30,12 @@ public class UnmarkAttendanceCommand extends Command {
      * Usage message for the command.
      */
     public static final String MESSAGE_USAGE = String.format("""
-                    %s: Removes the attendance record of the specified person in the"""
+                    %s: Removes the attendance record of the specified persons in the"""
                     + """
-                     specified group for the specified week.
-                    Parameters: %sPERSON_NAME %sGROUP_NAME %sWEEK_NUMBER
+                     specified group for the specified weeks.
+                    Leave out the person to unmark everyone in the group, and give a range such as 3-5 to unmark \
+                    several weeks.
+                    Parameters: [%sPERSON_NAME]... %sGROUP_NAME %sWEEK_NUMBER[-LAST_WEEK_NUMBER]
                     Example: %s %sJensen Huang %sCS2103T T12 %s10
                     """,
             COMMAND_WORD, PREFIX_PERSON, PREFIX_GROUP, PREFIX_WEEK, COMMAND_WORD, PREFIX_PERSON,
@@ -45,15 +45,16 @@ public class UnmarkAttendanceCommand extends Command {
     /**
      * Success message for command.
      */
-    public static final String MESSAGE_UNMARK_ATTENDANCE_SUCCESS = "Unmarked attendance for %s, %s, week %d";
+    public static final String MESSAGE_UNMARK_ATTENDANCE_SUCCESS = "Unmarked attendance for %s, %s, %s";
 
 
     /**
-     * Group Member Detail object to be updated.
+     * The names of the persons to unmark, or none to unmark every member.
      */
-    private final String personName;
+    private final List<String> personNames;
     private final String groupName;
-    private final int week;
+    private final int firstWeek;
+    private final int lastWeek;
 
 
     /**
@@ -64,14 +65,29 @@ public class UnmarkAttendanceCommand extends Command {
      * @param week       The week number for which attendance is being unmarked.
      */
     public UnmarkAttendanceCommand(String personName, String groupName, int week) {
-        requireAllNonNull(personName, groupName, week);
-        this.personName = personName;
+        this(List.of(personName), groupName, week, week);
+    }
+
+    /**
+     * Creates a {@code UnmarkAttendanceCommand} to unmark the attendance of several students for several weeks.
+     *
+     * @param personNames The names of the students, or none to unmark every member of the group.
+     * @param groupName   The name of the group the students belong to.
+     * @param firstWeek   The first week for which attendance is being unmarked.
+     * @param lastWeek    The last week for which attendance is being unmarked.
+     */
+    public UnmarkAttendanceCommand(List<String> personNames, String groupName, int firstWeek, int lastWeek) {
+        requireAllNonNull(personNames, groupName);
+        this.personNames = List.copyOf(personNames);
         this.groupName = groupName;
-        this.week = week;
+        this.firstWeek = firstWeek;
+        this.lastWeek = lastWeek;
     }
 
     /**
      * Executes the command to unmark attendance.
+     * Every person is looked up before any attendance is unmarked, so nothing is unmarked if any of them is not
+     * found.
      *
      * @param model The model in which the command should be executed.
      * @return A CommandResult indicating the outcome of the command execution.
@@ -88,25 +104,17 @@ public class UnmarkAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
         }
 
-        Person person;
-        try {
-            person = model.getPerson(personName);
-        } catch (PersonNotFoundException e) {
-            throw new CommandException(MESSAGE_PERSON_NOT_FOUND);
-        }
+        List<Person> persons = MarkAttendanceCommand.getMembers(model, group, personNames);
 
-        if (!GroupMemberDetail.isValidWeek(week)) {
-            throw new CommandException(MESSAGE_INVALID_WEEK_NUM);
+        if (!group.isValidWeek(firstWeek) || !group.isValidWeek(lastWeek)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_WEEK_NUM, group.getWeeks()));
         }
 
-        try {
-            model.unmarkAttendance(person, group, week);
-        } catch (PersonNotFoundException e) {
-            throw new CommandException(MESSAGE_PERSON_NOT_IN_GROUP);
-        }
+        model.unmarkAttendance(persons, group, firstWeek, lastWeek);
 
-        return new CommandResult(String.format(MESSAGE_UNMARK_ATTENDANCE_SUCCESS, personName, groupName, week),
-                true, group);
+        return new CommandResult(String.format(MESSAGE_UNMARK_ATTENDANCE_SUCCESS,
+                MarkAttendanceCommand.describeMembers(personNames, persons), groupName,
+                MarkAttendanceCommand.describeWeeks(firstWeek, lastWeek)), true, group);
     }
 
 
@@ -127,8 +135,9 @@ public class UnmarkAttendanceCommand extends Command {
             return false;
         }
 
-        return personName.equals(otherCmd.personName)
+        return personNames.equals(otherCmd.personNames)
                 && groupName.equals(otherCmd.groupName)
-                && week == otherCmd.week;
+                && firstWeek == otherCmd.firstWeek
+                && lastWeek == otherCmd.lastWeek;
     }
 }
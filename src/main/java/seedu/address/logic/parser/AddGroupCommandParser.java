@@ -3,12 +3,14 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
 import java.util.Set;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.AddGroupCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupMemberDetail;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -22,18 +24,21 @@ public class AddGroupCommandParser implements Parser<AddGroupCommand> {
      * @throws ParseException if the user input does not conform to the expected format
      */
     public AddGroupCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_WEEK);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME) || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AddGroupCommand.MESSAGE_USAGE));
         }
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_WEEK);
 
         String groupName = ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_NAME).get());
         Set<Tag> taglist = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        int weeks = argMultimap.getValue(PREFIX_WEEK).isPresent()
+                ? ParserUtil.parseWeeks(argMultimap.getValue(PREFIX_WEEK).get())
+                : GroupMemberDetail.WEEKS_PER_SEMESTER;
 
-        return new AddGroupCommand(groupName, taglist);
+        return new AddGroupCommand(groupName, taglist, weeks);
     }
 
     /**
@@ -24,7 +24,10 @@ import seedu.address.logic.commands.EditGroupCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindGroupCommand;
+import seedu.address.logic.commands.GroupStatsCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportGradesCommand;
+import seedu.address.logic.commands.ImportPersonsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListGroupCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
@@ -133,6 +136,15 @@ public class AddressBookParser {
         case EditAssignmentCommand.COMMAND_WORD:
             return new EditAssignmentCommandParser().parse(arguments);
 
+        case GroupStatsCommand.COMMAND_WORD:
+            return new GroupStatsCommandParser().parse(arguments);
+
+        case ImportGradesCommand.COMMAND_WORD:
+            return new ImportGradesCommandParser().parse(arguments);
+
+        case ImportPersonsCommand.COMMAND_WORD:
+            return new ImportPersonsCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -19,4 +19,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_DATE = new Prefix("d/");
     public static final Prefix PREFIX_NEW_NAME = new Prefix("N/");
     public static final Prefix PREFIX_LATE_PENALTY = new Prefix("l/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
 }
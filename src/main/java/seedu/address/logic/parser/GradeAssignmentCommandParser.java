@@ -39,7 +39,7 @@ public class GradeAssignmentCommandParser implements Parser<GradeAssignmentComma
         String personName = ParserUtil.parseName(argMultimap.getValue(PREFIX_PERSON).get()).toString();
         String groupName = ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUP).get());
         String assignmentName = ParserUtil.parseName(argMultimap.getValue(PREFIX_ASSIGNMENT).get()).toString();
-        Float score = Float.parseFloat(argMultimap.getValue(PREFIX_SCORE).get());
+        Float score = ParserUtil.parseScore(argMultimap.getValue(PREFIX_SCORE).get());
         return new GradeAssignmentCommand(personName, groupName, assignmentName, score);
 
     }
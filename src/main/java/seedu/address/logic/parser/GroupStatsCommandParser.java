@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import seedu.address.logic.commands.GroupStatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new GroupStatsCommand object
+ */
+public class GroupStatsCommandParser implements Parser<GroupStatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GroupStatsCommand
+     * and returns a GroupStatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GroupStatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP);
+
+        if (argMultimap.getValue(PREFIX_GROUP).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupStatsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP);
+
+        return new GroupStatsCommand(ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUP).get()));
+    }
+}
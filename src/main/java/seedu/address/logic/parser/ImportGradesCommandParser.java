@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ASSIGNMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ImportGradesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ImportGradesCommand} object.
+ */
+public class ImportGradesCommandParser implements Parser<ImportGradesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ImportGradesCommand}
+     * and returns an {@code ImportGradesCommand} object for execution.
+     *
+     * @param args The user input arguments as a {@code String}.
+     * @return An {@code ImportGradesCommand} object containing the parsed arguments.
+     * @throws ParseException If the user input does not conform to the expected format.
+     */
+    public ImportGradesCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP, PREFIX_ASSIGNMENT, PREFIX_FILE);
+        if (!arePrefixesPresent(argMultimap, PREFIX_GROUP, PREFIX_ASSIGNMENT, PREFIX_FILE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportGradesCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP, PREFIX_ASSIGNMENT, PREFIX_FILE);
+        String groupName = ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUP).get());
+        String assignmentName = ParserUtil.parseName(argMultimap.getValue(PREFIX_ASSIGNMENT).get()).toString();
+        Path filePath = ParserUtil.parsePath(argMultimap.getValue(PREFIX_FILE).get());
+        return new ImportGradesCommand(groupName, assignmentName, filePath);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import seedu.address.logic.commands.ImportPersonsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ImportPersonsCommand} object.
+ */
+public class ImportPersonsCommandParser implements Parser<ImportPersonsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ImportPersonsCommand}
+     * and returns an {@code ImportPersonsCommand} object for execution.
+     *
+     * @throws ParseException If the user input does not conform to the expected format.
+     */
+    public ImportPersonsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        if (argMultimap.getValue(PREFIX_FILE).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ImportPersonsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        return new ImportPersonsCommand(ParserUtil.parsePath(argMultimap.getValue(PREFIX_FILE).get()));
+    }
+}
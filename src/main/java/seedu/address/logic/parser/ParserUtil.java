@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -12,6 +14,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.group.Group;
@@ -28,6 +31,10 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer!";
     public static final String MESSAGE_INVALID_DATE = "Date is not in dd-MM-yyyy format.";
+    public static final String MESSAGE_INVALID_SCORE = "Score is not a finite number.";
+    public static final String MESSAGE_INVALID_PATH = "File path is empty or not a valid path.";
+    public static final String MESSAGE_INVALID_WEEK_RANGE =
+            "Week is not a week number, or two week numbers joined by a dash with the smaller first, such as 3-5.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -57,6 +64,81 @@ public class ParserUtil {
         return new Name(trimmedName);
     }
 
+    /**
+     * Parses {@code weeks} into the number of weeks of attendance of a group.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code weeks} is not a valid number of weeks.
+     */
+    public static int parseWeeks(String weeks) throws ParseException {
+        requireNonNull(weeks);
+        String trimmedWeeks = weeks.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedWeeks) || !Group.isValidWeeks(Integer.parseInt(trimmedWeeks))) {
+            throw new ParseException(Group.MESSAGE_WEEKS_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedWeeks);
+    }
+
+    /**
+     * Parses {@code score} into a finite score.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code score} is not a finite number.
+     */
+    public static Float parseScore(String score) throws ParseException {
+        requireNonNull(score);
+        try {
+            float value = Float.parseFloat(score.trim());
+            if (Float.isFinite(value)) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below along with scores that are not finite
+        }
+        throw new ParseException(MESSAGE_INVALID_SCORE);
+    }
+
+    /**
+     * Parses {@code path} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code path} is empty or not a valid path.
+     */
+    public static Path parsePath(String path) throws ParseException {
+        requireNonNull(path);
+        String trimmedPath = path.trim();
+        if (trimmedPath.isEmpty() || !FileUtil.isValidPath(trimmedPath)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return Paths.get(trimmedPath);
+    }
+
+    /**
+     * Parses {@code weekRange}, either a single week or two weeks joined by a dash, into its first and last week.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @return An array of the first and the last week, which are the same for a single week.
+     * @throws ParseException if the given {@code weekRange} is not a single week or an ascending range of weeks.
+     */
+    public static int[] parseWeekRange(String weekRange) throws ParseException {
+        requireNonNull(weekRange);
+        String[] bounds = weekRange.trim().split("\\s*-\\s*", -1);
+        if (bounds.length > 2) {
+            throw new ParseException(MESSAGE_INVALID_WEEK_RANGE);
+        }
+        for (String bound : bounds) {
+            if (!StringUtil.isNonZeroUnsignedInteger(bound)) {
+                throw new ParseException(MESSAGE_INVALID_WEEK_RANGE);
+            }
+        }
+        int firstWeek = Integer.parseInt(bounds[0]);
+        int lastWeek = Integer.parseInt(bounds[bounds.length - 1]);
+        if (firstWeek > lastWeek) {
+            throw new ParseException(MESSAGE_INVALID_WEEK_RANGE);
+        }
+        return new int[] {firstWeek, lastWeek};
+    }
+
     /**
      * Parses the String group name and validated it.
      * Leading and trailing whitespaces will be trimmed.
@@ -6,6 +6,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.UnmarkAttendanceCommand;
@@ -29,17 +31,20 @@ public class UnmarkAttendanceCommandParser implements Parser<UnmarkAttendanceCom
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PERSON, PREFIX_GROUP, PREFIX_WEEK);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_PERSON, PREFIX_GROUP, PREFIX_WEEK)
+        if (!arePrefixesPresent(argMultimap, PREFIX_GROUP, PREFIX_WEEK)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     UnmarkAttendanceCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PERSON, PREFIX_GROUP, PREFIX_WEEK);
-        String personName = ParserUtil.parseName(argMultimap.getValue(PREFIX_PERSON).get()).toString();
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP, PREFIX_WEEK);
+        List<String> personNames = new ArrayList<>();
+        for (String personName : argMultimap.getAllValues(PREFIX_PERSON)) {
+            personNames.add(ParserUtil.parseName(personName).toString());
+        }
         String groupName = ParserUtil.parseGroupName(argMultimap.getValue(PREFIX_GROUP).get());
-        int week = Integer.parseInt(argMultimap.getValue(PREFIX_WEEK).get());
-        return new UnmarkAttendanceCommand(personName, groupName, week);
+        int[] weeks = ParserUtil.parseWeekRange(argMultimap.getValue(PREFIX_WEEK).get());
+        return new UnmarkAttendanceCommand(personNames, groupName, weeks[0], weeks[1]);
     }
 
     /**
@@ -3,7 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -12,6 +15,7 @@ import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupMemberDetail;
 import seedu.address.model.group.UniqueGroupList;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -32,6 +36,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     private final UniqueGroupList groups;
 
+    /**
+     * Number of modifications made to the address book so far. Every operation that changes the data increments it.
+     */
+    private long version;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -70,6 +79,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        markModified();
     }
 
     /**
@@ -80,6 +90,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGroups(List<Group> groups) {
         this.groups.setGroups(groups);
+        markModified();
     }
 
     /**
@@ -114,6 +125,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markModified();
+    }
+
+    /**
+     * Adds new persons to the address book, as one change.
+     * Ensures that the persons are unique and do not already exist in the address book.
+     *
+     * @param persons The persons to add.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        markModified();
     }
 
     /**
@@ -125,12 +148,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        persons.setPerson(target, editedPerson);
-        for (Group group : groups) {
-            if (group.contains(target)) {
-                group.setGroupMember(target, editedPerson);
-            }
+        // The edited person keeps the id of the target, so that stored references to them stay the same.
+        Person personWithId = editedPerson.getId() == target.getId()
+                ? editedPerson
+                : editedPerson.withId(target.getId());
+        persons.setPerson(target, personWithId);
+        for (Group group : new ArrayList<>(groups.getGroupsOf(target))) {
+            groups.setMember(group, target, personWithId);
         }
+        markModified();
     }
 
     /**
@@ -141,15 +167,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        markModified();
     }
 
+    /**
+     * Returns the person with the given full name.
+     *
+     * @param personName The full name of the person.
+     * @throws PersonNotFoundException if no person has that name.
+     */
     public Person getPerson(String personName) {
-        for (Person person : persons) {
-            if (person.getName().toString().equals(personName)) {
-                return person;
-            }
+        requireNonNull(personName);
+        Name name;
+        try {
+            name = new Name(personName);
+        } catch (IllegalArgumentException e) {
+            // An invalid name cannot belong to any person in the address book.
+            throw new PersonNotFoundException();
         }
-        throw new PersonNotFoundException();
+        return persons.getPerson(name);
+    }
+
+    /**
+     * Returns the person with the given name.
+     *
+     * @throws PersonNotFoundException if no person has that name.
+     */
+    public Person getPerson(Name name) {
+        requireNonNull(name);
+        return persons.getPerson(name);
+    }
+
+    /**
+     * Returns the person with the given id.
+     *
+     * @throws PersonNotFoundException if no person has that id.
+     */
+    public Person getPerson(long id) {
+        return persons.getPerson(id);
     }
 
     //// Group-level operations
@@ -173,6 +228,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeGroup(Group key) {
         groups.remove(key);
+        markModified();
     }
 
     /**
@@ -185,6 +241,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setGroup(Group target, Group editedGroup) {
         requireNonNull(editedGroup);
         groups.setGroup(target, editedGroup);
+        markModified();
     }
 
     /**
@@ -193,6 +250,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addGroup(Group g) {
         groups.add(g);
+        markModified();
     }
 
     //// Utility methods
@@ -216,39 +274,55 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the group with the given name.
+     *
+     * @param groupName The name of the group.
+     * @throws GroupNotFoundException if no group has that name.
+     */
     public Group getGroup(String groupName) {
-        for (Group group : groups) {
-            if (group.getGroupName().equals(groupName)) {
-                return group;
-            }
-        }
-        throw new GroupNotFoundException();
+        return groups.getGroup(groupName);
     }
 
+    /**
+     * Adds {@code personToAdd} to {@code groupToBeAddedTo}.
+     */
     public void addPersonToGroup(Person personToAdd, Group groupToBeAddedTo) {
-        groupToBeAddedTo.add(personToAdd);
+        groups.addMember(groupToBeAddedTo, personToAdd);
+        markModified();
     }
 
+    /**
+     * Removes {@code personToRemove} from {@code groupToBeRemovedFrom}.
+     */
     public void deletePersonFromGroup(Person personToRemove, Group groupToBeRemovedFrom) {
-        groupToBeRemovedFrom.remove(personToRemove);
+        groups.removeMember(groupToBeRemovedFrom, personToRemove);
+        markModified();
     }
 
     /**
      * Removes person from all groups they are in.
      */
     public void deletePersonFromAllGroups(Person personToRemove) {
-        for (Group group : groups) {
-            if (group.contains(personToRemove)) {
-                deletePersonFromGroup(personToRemove, group);
-            }
+        for (Group group : new ArrayList<>(groups.getGroupsOf(personToRemove))) {
+            deletePersonFromGroup(personToRemove, group);
         }
     }
 
+    /**
+     * Returns the groups that contain {@code person}.
+     */
+    public List<Group> getGroupsOfPerson(Person person) {
+        return groups.getGroupsOf(person);
+    }
+
     /**
      * Adds assignment to the group specified.
      */
     public Assignment addAssignmentToGroup(String assignmentName, LocalDate deadline, Group group, Float penalty) {
-        return group.addAssignment(assignmentName, deadline, penalty);
+        Assignment assignment = group.addAssignment(assignmentName, deadline, penalty);
+        markModified();
+        return assignment;
     }
 
     /**
@@ -256,6 +330,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeAssignmentFromGroup(String assignmentName, Group group) {
         group.removeAssignment(assignmentName);
+        markModified();
     }
 
     /**
@@ -267,6 +342,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void editAssignment(String assignmentName, String newName, LocalDate deadline, Group group, Float penalty) {
         group.editAssignment(assignmentName, newName, deadline, penalty);
+        markModified();
     }
 
     /**
@@ -280,9 +356,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Grades an assignment specified with the relevant score
      */
     public void gradeAssignment(Person person, Group group, String assignmentName, Float score) {
-        GroupMemberDetail personDetail = group.getGroupMemberDetail(person);
-        Assignment assignment = group.getAssignment(assignmentName);
-        personDetail.gradeAssignment(assignment, score);
+        group.gradeAssignment(person, assignmentName, score);
+        markModified();
+    }
+
+    /**
+     * Grades an assignment for every person in {@code scores} with their score.
+     */
+    public void gradeAssignment(Map<Person, Float> scores, Group group, String assignmentName) {
+        group.gradeAssignment(scores, assignmentName);
+        markModified();
     }
 
     /**
@@ -298,14 +381,44 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Mark attendance of person in group.
      */
     public void markAttendance(Person person, Group group, int week) {
-        group.markAttendance(person, week);
+        markAttendance(List.of(person), group, week, week);
+    }
+
+    /**
+     * Marks the attendance of {@code persons} in {@code group} for every week from {@code firstWeek} to
+     * {@code lastWeek}, inclusive.
+     */
+    public void markAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek) {
+        group.markAttendance(persons, firstWeek, lastWeek);
+        markModified();
     }
 
     /**
      * Unmark attendance of person in group.
      */
     public void unmarkAttendance(Person person, Group group, int week) {
-        group.unmarkAttendance(person, week);
+        unmarkAttendance(List.of(person), group, week, week);
+    }
+
+    /**
+     * Unmarks the attendance of {@code persons} in {@code group} for every week from {@code firstWeek} to
+     * {@code lastWeek}, inclusive.
+     */
+    public void unmarkAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek) {
+        group.unmarkAttendance(persons, firstWeek, lastWeek);
+        markModified();
+    }
+
+    /**
+     * Returns the number of modifications made to this address book.
+     * Two calls that return the same value bracket a period in which the data did not change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void markModified() {
+        version++;
     }
 
     /**
@@ -0,0 +1,31 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book can be saved in, one of which is chosen in {@code UserPrefs}.
+ */
+public enum AddressBookFormat {
+    /**
+     * One indented json file.
+     */
+    JSON,
+
+    /**
+     * One json file without indentation or line breaks.
+     */
+    COMPACT_JSON,
+
+    /**
+     * A json snapshot, with each save appended to a journal of changes that is compacted into the snapshot.
+     */
+    JOURNAL,
+
+    /**
+     * A compact binary snapshot kept next to the json data file.
+     */
+    BINARY,
+
+    /**
+     * A folder of json shards, one per group, of which a save rewrites only those that changed.
+     */
+    SHARDED
+}
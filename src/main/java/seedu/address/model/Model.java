@@ -2,6 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -64,6 +67,11 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a counter that changes whenever the address book data is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -81,6 +89,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, as one change.
+     * The persons must be unique and must not already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -189,14 +203,21 @@ public interface Model {
     void gradeAssignment(Person person, Group group, String assignmentName, Float score);
 
     /**
-     * Mark attendance of a person in a group.
+     * Grades a specified assignment for every person in {@code scores} with their score.
      */
-    void markAttendance(Person person, Group group, int week);
+    void gradeAssignment(Map<Person, Float> scores, Group group, String assignmentName);
 
     /**
-     * Unmark attendance of a person in a group.
+     * Marks the attendance of {@code persons} in {@code group} for every week from {@code firstWeek} to
+     * {@code lastWeek}, inclusive.
      */
-    void unmarkAttendance(Person person, Group group, int week);
+    void markAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek);
+
+    /**
+     * Unmarks the attendance of {@code persons} in {@code group} for every week from {@code firstWeek} to
+     * {@code lastWeek}, inclusive.
+     */
+    void unmarkAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek);
 
     /**
      * Retrieves a group matching the provided group name.
@@ -213,6 +234,11 @@ public interface Model {
      */
     Float getGrade(Person person, Group group, String assignmentName);
 
+    /**
+     * Returns the groups that the person is a member of.
+     */
+    List<Group> getGroupsOfPerson(Person person);
+
     /**
      * Returns true if the person is in the group.
      * @param person Person to check
@@ -5,6 +5,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -96,6 +99,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -113,6 +121,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -211,6 +225,12 @@ public class ModelManager implements Model {
         return addressBook.getGrade(person, group, assignmentName);
     }
 
+    @Override
+    public List<Group> getGroupsOfPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getGroupsOfPerson(person);
+    }
+
     @Override
     public boolean isPersonInGroup(Person person, Group group) {
         requireAllNonNull(person, group);
@@ -273,16 +293,23 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void markAttendance(Person person, Group group, int week) {
-        requireAllNonNull(person, group, week);
-        addressBook.markAttendance(person, group, week);
+    public void gradeAssignment(Map<Person, Float> scores, Group group, String assignmentName) {
+        requireAllNonNull(scores, group, assignmentName);
+        addressBook.gradeAssignment(scores, group, assignmentName);
+        updateFilteredGroupList(PREDICATE_SHOW_ALL_GROUPS);
+    }
+
+    @Override
+    public void markAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek) {
+        requireAllNonNull(persons, group);
+        addressBook.markAttendance(persons, group, firstWeek, lastWeek);
         showGroupDetails(group);
     }
 
     @Override
-    public void unmarkAttendance(Person person, Group group, int week) {
-        requireAllNonNull(person, group, week);
-        addressBook.unmarkAttendance(person, group, week);
+    public void unmarkAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek) {
+        requireAllNonNull(persons, group);
+        addressBook.unmarkAttendance(persons, group, firstWeek, lastWeek);
         showGroupDetails(group);
     }
 
@@ -4,7 +4,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.text.MessageFormat;
 import java.time.LocalDate;
-import java.util.Objects;
 
 /**
  * Repesents an assignment.
@@ -58,6 +57,13 @@ public class Assignment {
         }
     }
 
+    /**
+     * Returns a new assignment with the same details, which can be edited independently of this one.
+     */
+    public Assignment copy() {
+        return new Assignment(name, deadline, penalty);
+    }
+
     public static boolean isValidName(String test) {
         return test.matches(VALIDATION_REGEX);
     }
@@ -74,16 +80,6 @@ public class Assignment {
         return this.penalty;
     }
 
-    /**
-     * Computes the hash code for this assignment based on its name and group.
-     *
-     * @return The hash code of the group.
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(name);
-    }
-
     @Override
     public String toString() {
         return MessageFormat.format("Assignment'{'name=''{0}'', deadline={1}'}'", name, deadline);
@@ -0,0 +1,275 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.ArrayListMap;
+import seedu.address.model.assignment.Assignment;
+
+/**
+ * The grades of every member of a {@code Group}, kept as one column of primitive scores per assignment.
+ * Each member holds a slot, which is their row in every column, and each assignment holds a column.
+ * A cell that has not been graded holds {@link #UNGRADED}.
+ * The graded scores of each column are also kept sorted, with their sum, so that averages, medians and
+ * percentiles are answered without scanning the members.
+ */
+public class Gradebook {
+
+    /**
+     * The score of a cell that has not been graded.
+     */
+    public static final float UNGRADED = Float.NaN;
+
+    public static final String MESSAGE_PERCENTILE_CONSTRAINTS = "Percentiles should be between 0 and 100";
+    public static final String MESSAGE_SCORE_CONSTRAINTS = "Scores should be finite numbers";
+
+    private static final int INITIAL_MEMBER_CAPACITY = 8;
+
+    /**
+     * The column of each assignment, keyed by identity since assignments are renamed in place.
+     */
+    private final Map<Assignment, Integer> columnsByAssignment = new IdentityHashMap<>();
+
+    /**
+     * The assignment of each column, or null if the column is free.
+     */
+    private final ArrayList<Assignment> assignmentsByColumn = new ArrayList<>();
+
+    /**
+     * The scores of each column, indexed by member slot, or null if the column is free.
+     */
+    private final ArrayList<float[]> columns = new ArrayList<>();
+
+    /**
+     * The graded scores of each column, or null if the column is free.
+     */
+    private final ArrayList<Distribution> distributions = new ArrayList<>();
+
+    private final ArrayDeque<Integer> freeColumns = new ArrayDeque<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+    /**
+     * The number of member slots ever handed out, including those since freed.
+     */
+    private int slotCount;
+
+    /**
+     * The length of every column.
+     */
+    private int memberCapacity;
+
+    /**
+     * Returns a slot for a new member, in which nothing has been graded.
+     */
+    int addMember() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.pop();
+        }
+        if (slotCount == memberCapacity) {
+            int oldCapacity = memberCapacity;
+            memberCapacity = Math.max(INITIAL_MEMBER_CAPACITY, memberCapacity * 2);
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i) != null) {
+                    columns.set(i, grow(columns.get(i), oldCapacity));
+                }
+            }
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Forgets every grade in {@code slot} and frees it for the next member.
+     */
+    void removeMember(int slot) {
+        for (int i = 0; i < columns.size(); i++) {
+            float[] column = columns.get(i);
+            if (column != null && !Float.isNaN(column[slot])) {
+                distributions.get(i).remove(column[slot]);
+                column[slot] = UNGRADED;
+            }
+        }
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Forgets every grade of {@code assignment} and frees its column.
+     */
+    void removeAssignment(Assignment assignment) {
+        Integer column = columnsByAssignment.remove(assignment);
+        if (column == null) {
+            return;
+        }
+        assignmentsByColumn.set(column, null);
+        columns.set(column, null);
+        distributions.set(column, null);
+        freeColumns.push(column);
+    }
+
+    /**
+     * Sets the score of {@code assignment} for the member in {@code slot}, or clears it if {@code score} is null.
+     * The score must be finite, since {@link #UNGRADED} is NaN and every graded score is counted in the statistics.
+     */
+    void setScore(int slot, Assignment assignment, Float score) {
+        requireNonNull(assignment);
+        checkArgument(score == null || Float.isFinite(score), MESSAGE_SCORE_CONSTRAINTS);
+        if (score == null && !columnsByAssignment.containsKey(assignment)) {
+            return;
+        }
+        int column = columnOf(assignment);
+        float[] scores = columns.get(column);
+        Distribution distribution = distributions.get(column);
+        if (!Float.isNaN(scores[slot])) {
+            distribution.remove(scores[slot]);
+        }
+        scores[slot] = score == null ? UNGRADED : score;
+        if (score != null) {
+            distribution.add(score);
+        }
+    }
+
+    /**
+     * Returns the score of {@code assignment} for the member in {@code slot}, or null if it has not been graded.
+     */
+    Float getScore(int slot, Assignment assignment) {
+        Integer column = columnsByAssignment.get(assignment);
+        if (column == null) {
+            return null;
+        }
+        float score = columns.get(column)[slot];
+        return Float.isNaN(score) ? null : score;
+    }
+
+    /**
+     * Returns the scores graded for the member in {@code slot}, keyed by assignment in column order.
+     */
+    ArrayListMap<Assignment, Float> getScores(int slot) {
+        ArrayListMap<Assignment, Float> scores = new ArrayListMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            float[] column = columns.get(i);
+            if (column != null && !Float.isNaN(column[slot])) {
+                scores.put(assignmentsByColumn.get(i), column[slot]);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the number of members graded for {@code assignment}.
+     */
+    public int countGraded(Assignment assignment) {
+        Distribution distribution = distributionOf(assignment);
+        return distribution == null ? 0 : distribution.count;
+    }
+
+    /**
+     * Returns the mean score of the members graded for {@code assignment}, or {@code NaN} if none are.
+     */
+    public double getAverage(Assignment assignment) {
+        Distribution distribution = distributionOf(assignment);
+        return distribution == null || distribution.count == 0
+                ? Double.NaN
+                : distribution.sum / distribution.count;
+    }
+
+    /**
+     * Returns the median score of the members graded for {@code assignment}, or {@code NaN} if none are.
+     */
+    public double getMedian(Assignment assignment) {
+        Distribution distribution = distributionOf(assignment);
+        if (distribution == null || distribution.count == 0) {
+            return Double.NaN;
+        }
+        int count = distribution.count;
+        return ((double) distribution.sorted[(count - 1) / 2] + distribution.sorted[count / 2]) / 2;
+    }
+
+    /**
+     * Returns the lowest score that at least {@code percent} percent of the graded members of {@code assignment}
+     * scored at or below, or {@code NaN} if none are graded.
+     *
+     * @param percent A percentage between 0 and 100.
+     */
+    public double getPercentile(Assignment assignment, double percent) {
+        checkArgument(percent >= 0 && percent <= 100, MESSAGE_PERCENTILE_CONSTRAINTS);
+        Distribution distribution = distributionOf(assignment);
+        if (distribution == null || distribution.count == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(percent / 100 * distribution.count);
+        return distribution.sorted[Math.max(rank - 1, 0)];
+    }
+
+    private Distribution distributionOf(Assignment assignment) {
+        Integer column = columnsByAssignment.get(assignment);
+        return column == null ? null : distributions.get(column);
+    }
+
+    private int columnOf(Assignment assignment) {
+        Integer column = columnsByAssignment.get(assignment);
+        if (column != null) {
+            return column;
+        }
+        float[] scores = grow(new float[0], 0);
+        if (freeColumns.isEmpty()) {
+            column = columns.size();
+            columns.add(scores);
+            distributions.add(new Distribution());
+            assignmentsByColumn.add(assignment);
+        } else {
+            column = freeColumns.pop();
+            columns.set(column, scores);
+            distributions.set(column, new Distribution());
+            assignmentsByColumn.set(column, assignment);
+        }
+        columnsByAssignment.put(assignment, column);
+        return column;
+    }
+
+    /**
+     * Returns a copy of {@code column} of length {@link #memberCapacity}, with the cells from {@code oldLength} on
+     * ungraded.
+     */
+    private float[] grow(float[] column, int oldLength) {
+        float[] grown = Arrays.copyOf(column, memberCapacity);
+        Arrays.fill(grown, oldLength, memberCapacity, UNGRADED);
+        return grown;
+    }
+
+    /**
+     * The graded scores of one column, in ascending order.
+     */
+    private static class Distribution {
+        private float[] sorted = new float[INITIAL_MEMBER_CAPACITY];
+        private int count;
+        private double sum;
+
+        void add(float score) {
+            int index = Arrays.binarySearch(sorted, 0, count, score);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            if (count == sorted.length) {
+                sorted = Arrays.copyOf(sorted, count * 2);
+            }
+            System.arraycopy(sorted, index, sorted, index + 1, count - index);
+            sorted[index] = score;
+            count++;
+            sum += score;
+        }
+
+        void remove(float score) {
+            int index = Arrays.binarySearch(sorted, 0, count, score);
+            assert index >= 0;
+            System.arraycopy(sorted, index + 1, sorted, index, count - index - 1);
+            count--;
+            // Start afresh rather than keep the rounding error of every score ever removed
+            sum = count == 0 ? 0 : sum - score;
+        }
+    }
+}
@@ -8,8 +8,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.scene.layout.Region;
 import seedu.address.commons.util.ArrayListMap;
@@ -43,6 +47,17 @@ public class Group implements Result {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} /\\-']*";
 
+    /**
+     * Message to indicate the constraints for the number of weeks of a group.
+     */
+    public static final String MESSAGE_WEEKS_CONSTRAINTS = String.format(
+            "Number of weeks must be between 1 and %d (inclusive)!", GroupMemberDetail.MAX_WEEKS);
+
+    /**
+     * The latest version given to any group.
+     */
+    private static final AtomicLong latestVersion = new AtomicLong();
+
     /**
      * The name of the group.
      */
@@ -54,12 +69,40 @@ public class Group implements Result {
     private final ArrayListMap<Person, GroupMemberDetail> groupMembers;
 
     /**
-     * The list of all assignments in the group.
+     * Builds the details of the members loaded with this group, or null once they have been built.
+     * Until then, those members are mapped to null in {@link #groupMembers}.
+     */
+    private GroupMemberDetailLoader detailLoader;
+
+    /**
+     * All assignments in the group, in the order they were added, keyed by assignment name.
      */
-    private final ArrayList<Assignment> assignments;
+    private final ArrayListMap<String, Assignment> assignments;
+
+    /**
+     * The grades of the members whose details have been built.
+     */
+    private final Gradebook gradebook = new Gradebook();
+
+    /**
+     * The statistics of the members whose details have been built.
+     */
+    private final GroupStatistics statistics = new GroupStatistics(gradebook);
 
     private final Set<Tag> tags;
 
+    /**
+     * The number of weeks of attendance taken in this group.
+     */
+    private int weeks = GroupMemberDetail.WEEKS_PER_SEMESTER;
+
+    /**
+     * Changes whenever this group changes, including its members' attendance and grades.
+     * Versions are drawn from a counter shared by all groups, so no two groups are ever at the same version
+     * unless one is a {@link #deepCopy()} of the other.
+     */
+    private long version = latestVersion.incrementAndGet();
+
     /**
      * Constructs a {@code Group} with a specified name.
      * Initializes an empty list of group members.
@@ -99,7 +142,7 @@ public class Group implements Result {
             }
         }
         this.tags = tags == null ? new HashSet<>() : new HashSet<>(tags);
-        this.assignments = new ArrayList<>();
+        this.assignments = new ArrayListMap<>();
     }
 
     /**
@@ -127,16 +170,92 @@ public class Group implements Result {
                     GroupMemberDetail> groupMembers,
             Collection<Tag> tags,
             Collection<Assignment> assignments) {
+        this(groupName, groupMembers, tags, assignments, true);
+    }
+
+    private Group(String groupName, ArrayListMap<Person, GroupMemberDetail> groupMembers, Collection<Tag> tags,
+            Collection<Assignment> assignments, boolean shouldValidate) {
         requireNonNull(groupName);
-        checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
+        if (shouldValidate) {
+            checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
+        }
         this.groupName = groupName;
         this.groupMembers = groupMembers;
         this.tags = tags == null ? new HashSet<>() : new HashSet<>(tags);
-        this.assignments = assignments == null ? new ArrayList<>() : new ArrayList<>(assignments);
+        this.assignments = new ArrayListMap<>();
+        if (assignments != null) {
+            for (Assignment a : assignments) {
+                this.assignments.put(a.getName(), a);
+            }
+        }
+    }
+
+    /**
+     * Constructs a {@code Group} like {@link #Group(String, ArrayListMap, Collection, Collection)}, without checking
+     * that {@code groupName} is valid.
+     * Only for names already known to be valid, such as those read back from an unmodified data file.
+     */
+    public static Group ofTrusted(String groupName, ArrayListMap<Person, GroupMemberDetail> groupMembers,
+            Collection<Tag> tags, Collection<Assignment> assignments) {
+        return new Group(groupName, groupMembers, tags, assignments, false);
+    }
+
+    /**
+     * Constructs a {@code Group} like {@link #ofTrusted(String, ArrayListMap, Collection, Collection)}, with
+     * {@code groupMembers} as its members, whose details are only built by {@code detailLoader} the first time
+     * any member's details are needed.
+     * Only for groups read back from an unmodified data file, whose member details are known to be valid.
+     */
+    public static Group ofTrusted(String groupName, List<Person> groupMembers, Collection<Tag> tags,
+            Collection<Assignment> assignments, GroupMemberDetailLoader detailLoader) {
+        requireNonNull(detailLoader);
+        ArrayListMap<Person, GroupMemberDetail> pendingMembers = new ArrayListMap<>();
+        for (Person member : groupMembers) {
+            pendingMembers.put(member, null);
+        }
+        Group group = new Group(groupName, pendingMembers, tags, assignments, false);
+        group.detailLoader = detailLoader;
+        return group;
     }
 
+    /**
+     * Returns a group with the given name and tags, and copies of the members and assignments of this group.
+     * This group is left unchanged, and shares no mutable state with the edited group.
+     */
     public Group createEditedGroup(String newGroupName, Collection<Tag> tags) {
-        return new Group(newGroupName, groupMembers, tags, assignments);
+        return copy(newGroupName, tags);
+    }
+
+    /**
+     * Returns a copy of this group, with the same version, that shares no mutable state with this group.
+     * Later changes to either group are not seen by the other.
+     */
+    public Group deepCopy() {
+        Group copy = copy(groupName, tags);
+        copy.version = version;
+        return copy;
+    }
+
+    /**
+     * Returns a group with the given name and tags, and copies of the members, assignments and weeks of this group.
+     */
+    private Group copy(String name, Collection<Tag> tags) {
+        Map<Assignment, Assignment> copiedAssignments = new IdentityHashMap<>();
+        for (Assignment assignment : assignments.values()) {
+            copiedAssignments.put(assignment, assignment.copy());
+        }
+        ArrayListMap<Person, GroupMemberDetail> copiedMembers = new ArrayListMap<>();
+        Group copy = new Group(name, copiedMembers, tags,
+                assignments.values().stream().map(copiedAssignments::get).toList());
+        for (int i = 0; i < groupMembers.size(); i++) {
+            // Details still to be loaded stay unloaded in the copy, which builds its own from the same loader.
+            GroupMemberDetail detail = groupMembers.get(i);
+            copiedMembers.put(groupMembers.keySet().get(i),
+                    detail == null ? null : detail.deepCopy(copy, copiedAssignments));
+        }
+        copy.detailLoader = detailLoader;
+        copy.weeks = weeks;
+        return copy;
     }
 
     /**
@@ -159,14 +278,46 @@ public class Group implements Result {
     }
 
     /**
-     * Sets a new name for the group.
-     *
-     * @param groupName The new name to assign to the group.
+     * Returns the version of this group, which changes whenever the group is modified.
      */
-    public void setGroupName(String groupName) {
-        requireNonNull(groupName);
-        checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
-        this.groupName = groupName;
+    public long getVersion() {
+        return version;
+    }
+
+    private void markModified() {
+        version = latestVersion.incrementAndGet();
+    }
+
+    /**
+     * Builds the details of the members loaded with this group, if they have not been built yet.
+     * Members added since then already have their details, and members since removed are left out.
+     */
+    private void loadMemberDetails() {
+        if (detailLoader == null) {
+            return;
+        }
+        Map<Person, GroupMemberDetail> loaded = detailLoader.load(Collections.unmodifiableMap(assignments));
+        detailLoader = null;
+        ArrayList<GroupMemberDetail> details = groupMembers.values();
+        for (int i = 0; i < details.size(); i++) {
+            if (details.get(i) == null) {
+                Person member = groupMembers.keySet().get(i);
+                GroupMemberDetail detail = loaded.get(member);
+                if (detail == null) {
+                    detail = new GroupMemberDetail(member, this);
+                }
+                detail.setGroup(this);
+                detail.clearAttendanceAfter(weeks);
+                details.set(i, detail);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the details of the members loaded with this group have not been built yet.
+     */
+    public boolean isMemberDetailsPending() {
+        return detailLoader != null;
     }
 
     /**
@@ -178,7 +329,11 @@ public class Group implements Result {
         return new ArrayList<>(groupMembers.keySet());
     }
 
+    /**
+     * Returns a copy of the map from each member to their details.
+     */
     public ArrayListMap<Person, GroupMemberDetail> getGroupMembersMap() {
+        loadMemberDetails();
         ArrayListMap<Person, GroupMemberDetail> copied = new ArrayListMap<>();
         copied.putAll(this.groupMembers);
         return copied;
@@ -186,16 +341,23 @@ public class Group implements Result {
 
     /**
      * Replaces the old person with new edited person while keeping the GroupMemberDetails.
+     * Only {@link UniqueGroupList#setMember} should call this, so that its membership index stays up to date.
      *
      * @param target
      * @param editedPerson
      */
-    public void setGroupMember(Person target, Person editedPerson) throws PersonNotFoundException {
+    void setGroupMember(Person target, Person editedPerson) throws PersonNotFoundException {
         if (!contains(target)) {
             throw new PersonNotFoundException();
         }
+        loadMemberDetails();
         groupMembers.replaceKey(target, editedPerson);
-        groupMembers.computeIfPresent(editedPerson, (k, v) -> v.copy(editedPerson));
+        groupMembers.computeIfPresent(editedPerson, (k, v) -> {
+            GroupMemberDetail copy = v.copy(editedPerson);
+            v.detach();
+            return copy;
+        });
+        markModified();
     }
 
     /**
@@ -262,29 +424,37 @@ public class Group implements Result {
     /**
      * Adds a person to the group.
      * Ensures that the person does not already exist in the group.
+     * Only {@link UniqueGroupList#addMember} should call this, so that its membership index stays up to date.
      *
      * @param p The person to be added.
      * @throws DuplicatePersonException If the person already exists in the group.
      */
-    public void add(Person p) {
+    void add(Person p) {
         requireNonNull(p);
         if (contains(p)) {
             throw new DuplicatePersonException();
         }
         this.groupMembers.put(p, new GroupMemberDetail(p, this));
+        markModified();
     }
 
     /**
      * Removes a person from the group.
      * Ensures that the person exists before attempting removal.
+     * Only {@link UniqueGroupList#removeMember} should call this, so that its membership index stays up to date.
      *
      * @param p The person to be removed.
      * @throws PersonNotFoundException If the person is not found in the group.
      */
-    public void remove(Person p) {
-        if (groupMembers.remove(p) == null) {
+    void remove(Person p) {
+        if (!contains(p)) {
             throw new PersonNotFoundException();
         }
+        GroupMemberDetail detail = groupMembers.remove(p);
+        if (detail != null) {
+            detail.detach();
+        }
+        markModified();
     }
 
     /**
@@ -294,7 +464,7 @@ public class Group implements Result {
      * @return The person at the given index.
      */
     public Person get(int i) {
-        return groupMembers.get(i).getPerson();
+        return groupMembers.keySet().get(i);
     }
 
     /**
@@ -306,7 +476,11 @@ public class Group implements Result {
         return this.groupMembers.size();
     }
 
+    /**
+     * Returns the details of {@code person} in this group, or null if they are not a member.
+     */
     public GroupMemberDetail getGroupMemberDetail(Person person) {
+        loadMemberDetails();
         return groupMembers.get(person);
     }
 
@@ -317,12 +491,11 @@ public class Group implements Result {
      * @return The desired assignment if found
      */
     public Assignment getAssignment(String assignmentName) throws AssignmentNotFoundException {
-        for (Assignment a : assignments) {
-            if (a.getName().equals(assignmentName)) {
-                return a;
-            }
+        Assignment assignment = assignments.get(assignmentName);
+        if (assignment == null) {
+            throw new AssignmentNotFoundException();
         }
-        throw new AssignmentNotFoundException();
+        return assignment;
     }
 
     /**
@@ -331,7 +504,7 @@ public class Group implements Result {
      * @return All assignments in the group.
      */
     public ArrayList<Assignment> getAssignments() {
-        return assignments;
+        return assignments.values();
     }
 
     /**
@@ -341,8 +514,7 @@ public class Group implements Result {
      * @return True if the Assignment exists and false otherwise.
      */
     public boolean containsAssignment(String assignmentName) {
-        return assignments.stream()
-                .anyMatch(a -> a.getName().equals(assignmentName));
+        return assignments.containsKey(assignmentName);
     }
 
     /**
@@ -356,7 +528,8 @@ public class Group implements Result {
             throw new DuplicateAssignmentException();
         }
         Assignment assignment = new Assignment(assignmentName, deadline, penalty);
-        assignments.add(assignment);
+        assignments.put(assignmentName, assignment);
+        markModified();
         return assignment;
     }
 
@@ -366,13 +539,14 @@ public class Group implements Result {
      * @param assignmentName The assignment name to be removed.
      */
     public void removeAssignment(String assignmentName) throws AssignmentNotFoundException {
-        for (Assignment a : assignments) {
-            if (a.getName().equals(assignmentName)) {
-                assignments.remove(a);
-                return;
-            }
+        // Pending details refer to assignments by the names they had when the group was loaded
+        loadMemberDetails();
+        Assignment assignment = assignments.remove(assignmentName);
+        if (assignment == null) {
+            throw new AssignmentNotFoundException();
         }
-        throw new AssignmentNotFoundException();
+        gradebook.removeAssignment(assignment);
+        markModified();
     }
 
     /**
@@ -383,16 +557,55 @@ public class Group implements Result {
      * @param deadline       A {@code LocalDate} object specifying the assignment deadline.
      */
     public void editAssignment(String assignmentName, String newName, LocalDate deadline, Float penalty) {
-        for (Assignment a : assignments) {
-            if (a.getName().equals(newName)) {
-                throw new DuplicateAssignmentException();
-            }
-            if (a.getName().equals(assignmentName)) {
-                a.editAssignment(newName, deadline, penalty);
-                return;
+        if (newName != null && assignments.containsKey(newName)) {
+            throw new DuplicateAssignmentException();
+        }
+        loadMemberDetails();
+        Assignment assignment = getAssignment(assignmentName);
+        assignment.editAssignment(newName, deadline, penalty);
+        if (newName != null) {
+            assignments.replaceKey(assignmentName, newName);
+        }
+        markModified();
+    }
+
+    /**
+     * Checks if the given number of weeks can be taken in a group.
+     */
+    public static boolean isValidWeeks(int test) {
+        return test >= 1 && test <= GroupMemberDetail.MAX_WEEKS;
+    }
+
+    /**
+     * Gets the number of weeks of attendance taken in this group.
+     */
+    public int getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * Sets the number of weeks of attendance taken in this group.
+     * Attendance of the weeks after the new last week is forgotten.
+     *
+     * @param weeks A valid number of weeks.
+     */
+    public void setWeeks(int weeks) {
+        checkArgument(isValidWeeks(weeks), MESSAGE_WEEKS_CONSTRAINTS);
+        this.weeks = weeks;
+        // Details still to be loaded forget those weeks when they are loaded
+        for (GroupMemberDetail detail : groupMembers.values()) {
+            if (detail != null) {
+                detail.clearAttendanceAfter(weeks);
             }
         }
-        throw new AssignmentNotFoundException();
+        markModified();
+    }
+
+    /**
+     * Checks if the week is between 1 and the number of weeks of this group.
+     */
+    public boolean isValidWeek(int week) {
+        return week >= 1 && week <= weeks;
     }
 
     /**
@@ -403,11 +616,23 @@ public class Group implements Result {
      * @throws PersonNotFoundException
      */
     public void markAttendance(Person person, int week) throws PersonNotFoundException {
-        if (!groupMembers.containsKey(person)) {
-            throw new PersonNotFoundException();
+        markAttendance(List.of(person), week, week);
+    }
+
+    /**
+     * Marks attendance of every person in {@code persons} for every week from {@code firstWeek} to
+     * {@code lastWeek}, inclusive.
+     * Nothing is marked if any of them is not a member.
+     *
+     * @throws PersonNotFoundException if any of the persons is not a member.
+     */
+    public void markAttendance(Collection<Person> persons, int firstWeek, int lastWeek)
+            throws PersonNotFoundException {
+        long weeksToMark = getWeekRange(persons, firstWeek, lastWeek);
+        for (Person person : persons) {
+            getGroupMemberDetail(person).markWeeks(weeksToMark);
         }
-        GroupMemberDetail groupMemberDetail = groupMembers.get(person);
-        groupMemberDetail.markAttendance(week);
+        markModified();
     }
 
     /**
@@ -418,11 +643,74 @@ public class Group implements Result {
      * @throws PersonNotFoundException
      */
     public void unmarkAttendance(Person person, int week) throws PersonNotFoundException {
-        if (!groupMembers.containsKey(person)) {
-            throw new PersonNotFoundException();
+        unmarkAttendance(List.of(person), week, week);
+    }
+
+    /**
+     * Unmarks attendance of every person in {@code persons} for every week from {@code firstWeek} to
+     * {@code lastWeek}, inclusive.
+     * Nothing is unmarked if any of them is not a member.
+     *
+     * @throws PersonNotFoundException if any of the persons is not a member.
+     */
+    public void unmarkAttendance(Collection<Person> persons, int firstWeek, int lastWeek)
+            throws PersonNotFoundException {
+        long weeksToUnmark = getWeekRange(persons, firstWeek, lastWeek);
+        for (Person person : persons) {
+            getGroupMemberDetail(person).unmarkWeeks(weeksToUnmark);
+        }
+        markModified();
+    }
+
+    /**
+     * Returns the weeks from {@code firstWeek} to {@code lastWeek} as a bitmask in which week {@code n} is bit
+     * {@code n - 1}, after checking that they are weeks of this group and that every person is a member.
+     */
+    private long getWeekRange(Collection<Person> persons, int firstWeek, int lastWeek) {
+        requireNonNull(persons);
+        checkArgument(isValidWeek(firstWeek) && isValidWeek(lastWeek) && firstWeek <= lastWeek,
+                String.format(GroupMemberDetail.MESSAGE_CONSTRAINTS, weeks));
+        for (Person person : persons) {
+            if (!groupMembers.containsKey(person)) {
+                throw new PersonNotFoundException();
+            }
+        }
+        return (-1L >>> (Long.SIZE - lastWeek)) & (-1L << (firstWeek - 1));
+    }
+
+    /**
+     * Grades the assignment named {@code assignmentName} for {@code person}.
+     *
+     * @param person         A member of the group.
+     * @param assignmentName The name of an assignment in the group.
+     * @param score          The score before any late penalty.
+     */
+    public void gradeAssignment(Person person, String assignmentName, Float score) {
+        GroupMemberDetail groupMemberDetail = getGroupMemberDetail(person);
+        Assignment assignment = getAssignment(assignmentName);
+        groupMemberDetail.gradeAssignment(assignment, score);
+        markModified();
+    }
+
+    /**
+     * Grades the assignment named {@code assignmentName} for every member in {@code scores}, with their score
+     * before any late penalty.
+     * Nothing is graded if any of them is not a member.
+     *
+     * @throws AssignmentNotFoundException if there is no such assignment in the group.
+     * @throws PersonNotFoundException if any of the persons is not a member.
+     */
+    public void gradeAssignment(Map<Person, Float> scores, String assignmentName) {
+        Assignment assignment = getAssignment(assignmentName);
+        for (Person person : scores.keySet()) {
+            if (!groupMembers.containsKey(person)) {
+                throw new PersonNotFoundException();
+            }
         }
-        GroupMemberDetail groupMemberDetail = groupMembers.get(person);
-        groupMemberDetail.unmarkAttendance(week);
+        for (Map.Entry<Person, Float> score : scores.entrySet()) {
+            getGroupMemberDetail(score.getKey()).gradeAssignment(assignment, score.getValue());
+        }
+        markModified();
     }
 
 
@@ -444,7 +732,41 @@ public class Group implements Result {
         return new GroupCard(this, displayedIndex);
     }
 
+    /**
+     * Returns the grades of the members of this group.
+     */
+    public Gradebook getGradebook() {
+        loadMemberDetails();
+        return gradebook;
+    }
+
+    /**
+     * Returns the grades of the members whose details have been built, without building the others.
+     */
+    Gradebook getBuiltGradebook() {
+        return gradebook;
+    }
+
+    /**
+     * Returns the statistics of the members of this group.
+     */
+    public GroupStatistics getStatistics() {
+        loadMemberDetails();
+        return statistics;
+    }
+
+    /**
+     * Returns the statistics of the members whose details have been built, without building the others.
+     */
+    GroupStatistics getBuiltStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the details of all members, in the order of the members.
+     */
     public ArrayList<GroupMemberDetail> getGroupDetails() {
+        loadMemberDetails();
         return groupMembers.values();
     }
 }
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
 
 import javafx.scene.layout.Region;
@@ -30,13 +32,20 @@ public class GroupMemberDetail implements Result {
         Lecturer
     }
 
+    /**
+     * The number of weeks of attendance that groups take unless they are given another number.
+     */
     public static final int WEEKS_PER_SEMESTER = 13;
 
+    /**
+     * The largest number of weeks of attendance that a group can take, one bit of {@code attendance} per week.
+     */
+    public static final int MAX_WEEKS = Long.SIZE;
+
     /**
      * Message to indicate the constraints for week number
      */
-    public static final String MESSAGE_CONSTRAINTS = String.format(
-            "Weeks should be between 1 and %d", WEEKS_PER_SEMESTER);
+    public static final String MESSAGE_CONSTRAINTS = "Weeks should be between 1 and %d";
 
     /**
      * The {@code Person} whose detail is describing.
@@ -53,12 +62,17 @@ public class GroupMemberDetail implements Result {
     private Role role;
 
     /**
-     * The list of members in the group, stored in order of insertion.
+     * The weeks attended, as a bitmask in which week {@code n} is bit {@code n - 1}.
+     */
+    private long attendance;
+
+    /**
+     * This person's row in the gradebook of their group, or -1 if their grades are kept in {@link #grades}.
      */
-    private boolean[] attendance;
+    private int slot = -1;
 
     /**
-     * The grades of the assignments of this person in this group.
+     * The grades of the assignments of this person while they are not in a group's gradebook, or null.
      */
     private ArrayListMap<Assignment, Float> grades;
 
@@ -71,7 +85,7 @@ public class GroupMemberDetail implements Result {
      * @param Group  A valid group.
      */
     public GroupMemberDetail(Person person, Group group) {
-        this(person, group, Role.Student, new boolean[WEEKS_PER_SEMESTER]);
+        this(person, group, Role.Student, 0);
     }
 
     /**
@@ -82,14 +96,15 @@ public class GroupMemberDetail implements Result {
      * @param Person A valid person.
      * @param Group  A valid group.
      * @param Role   A valid role.
+     * @param attendance The weeks attended, with week {@code n} as bit {@code n - 1}.
      */
-    public GroupMemberDetail(Person person, Group group, Role role, boolean[] attendance) {
+    public GroupMemberDetail(Person person, Group group, Role role, long attendance) {
         requireAllNonNull(person, role);
         this.person = person;
-        this.group = group;
         this.role = role;
         this.attendance = attendance;
         this.grades = new ArrayListMap<>();
+        setGroup(group);
     }
 
     /**
@@ -100,30 +115,58 @@ public class GroupMemberDetail implements Result {
      *
      * @param person        A valid person.
      * @param role          A valid role.
-     * @param attendance    A valid attendance array.
+     * @param attendance    The weeks attended, with week {@code n} as bit {@code n - 1}.
      * @param grades        A valid grade map.
      */
-    public GroupMemberDetail(Person person, Role role, boolean[] attendance,
+    public GroupMemberDetail(Person person, Role role, long attendance,
                              ArrayListMap<Assignment, Float> grades) {
-        requireAllNonNull(person, role, attendance, grades);
+        requireAllNonNull(person, role, grades);
         this.person = person;
         this.role = role;
         this.attendance = attendance;
         this.grades = grades;
     }
 
+    /**
+     * Returns a detail for {@code newPerson} with the role, attendance and grades of this detail, in the same group.
+     */
     public GroupMemberDetail copy(Person newPerson) {
-        return new GroupMemberDetail(newPerson, this.group, this.role, this.attendance);
+        GroupMemberDetail copy = new GroupMemberDetail(newPerson, role, attendance, getGrades());
+        copy.setGroup(group);
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this detail for {@code group} that shares no mutable state with this detail.
+     * Grades are keyed by the copy of their assignment in {@code copiedAssignments}, or by a fresh copy
+     * if the assignment is not there.
+     */
+    GroupMemberDetail deepCopy(Group group, Map<Assignment, Assignment> copiedAssignments) {
+        ArrayListMap<Assignment, Float> copiedGrades = new ArrayListMap<>();
+        for (Map.Entry<Assignment, Float> grade : getGrades().entrySet()) {
+            Assignment assignment = copiedAssignments.getOrDefault(grade.getKey(), grade.getKey().copy());
+            copiedGrades.put(assignment, grade.getValue());
+        }
+        GroupMemberDetail copy = new GroupMemberDetail(person, role, attendance, copiedGrades);
+        copy.setGroup(group);
+        return copy;
     }
 
     /**
-     * Checks if the week is between 1 and the number of weeks in a semester.
+     * Checks if the week is between 1 and the number of weeks of this member's group.
      *
      * @param test The week number to test.
      * @return True if the week is valid, false otherwise.
      */
-    public static boolean isValidWeek(int test) {
-        return test >= 1 && test <= WEEKS_PER_SEMESTER;
+    public boolean isValidWeek(int test) {
+        return test >= 1 && test <= getWeeks();
+    }
+
+    /**
+     * Gets the number of weeks of attendance taken in this member's group.
+     */
+    public int getWeeks() {
+        return group == null ? WEEKS_PER_SEMESTER : group.getWeeks();
     }
 
     /**
@@ -145,12 +188,40 @@ public class GroupMemberDetail implements Result {
     }
 
     /**
-     * Sets the Group.
+     * Sets the Group, moving the grades into its gradebook and counting this member in its statistics.
      *
      * @param group A valid group.
      */
     public void setGroup(Group group) {
+        if (group == this.group && (group == null || slot >= 0)) {
+            return;
+        }
+        detach();
         this.group = group;
+        if (group == null) {
+            return;
+        }
+        Gradebook gradebook = group.getBuiltGradebook();
+        slot = gradebook.addMember();
+        for (Map.Entry<Assignment, Float> grade : grades.entrySet()) {
+            gradebook.setScore(slot, grade.getKey(), grade.getValue());
+        }
+        grades = null;
+        group.getBuiltStatistics().memberJoined(attendance);
+    }
+
+    /**
+     * Moves the grades out of the gradebook of the group and stops counting this member in its statistics,
+     * freeing this person's row for another member.
+     */
+    void detach() {
+        if (slot < 0) {
+            return;
+        }
+        grades = getGrades();
+        group.getBuiltGradebook().removeMember(slot);
+        group.getBuiltStatistics().memberLeft(attendance);
+        slot = -1;
     }
 
     /**
@@ -173,21 +244,60 @@ public class GroupMemberDetail implements Result {
     }
 
     /**
-     * Gets the attendance.
+     * Gets the attendance of each week of the group, with week {@code n} at index {@code n - 1}.
      *
-     * @return The attendance.
+     * @return A new array of the attendance.
      */
     public boolean[] getAttendance() {
+        boolean[] weeks = new boolean[getWeeks()];
+        for (int i = 0; i < weeks.length; i++) {
+            weeks[i] = (attendance & (1L << i)) != 0;
+        }
+        return weeks;
+    }
+
+    /**
+     * Gets the weeks attended, as a bitmask in which week {@code n} is bit {@code n - 1}.
+     */
+    public long getAttendanceBits() {
         return this.attendance;
     }
 
+    /**
+     * Returns true if the member attended the given week.
+     */
+    public boolean hasAttended(int week) {
+        return week >= 1 && week <= MAX_WEEKS && (attendance & (1L << (week - 1))) != 0;
+    }
+
+    /**
+     * Returns the number of weeks attended.
+     */
+    public int countAttendedWeeks() {
+        return Long.bitCount(attendance);
+    }
+
+    /**
+     * Forgets the attendance of every week after {@code weeks}.
+     */
+    void clearAttendanceAfter(int weeks) {
+        if (weeks < MAX_WEEKS) {
+            setAttendance(attendance & ((1L << weeks) - 1));
+        }
+    }
+
     /**
      * Gets the grades.
      *
-     * @return The grades.
+     * @return A new map of the graded assignments to their scores.
      */
     public ArrayListMap<Assignment, Float> getGrades() {
-        return this.grades;
+        if (slot < 0) {
+            ArrayListMap<Assignment, Float> copied = new ArrayListMap<>();
+            copied.putAll(grades);
+            return copied;
+        }
+        return group.getBuiltGradebook().getScores(slot);
     }
 
     /**
@@ -196,8 +306,8 @@ public class GroupMemberDetail implements Result {
      * @param week The week to mark the attendance
      */
     public void markAttendance(int week) {
-        checkArgument(isValidWeek(week), MESSAGE_CONSTRAINTS);
-        this.attendance[week - 1] = true;
+        checkArgument(isValidWeek(week), String.format(MESSAGE_CONSTRAINTS, getWeeks()));
+        setAttendance(attendance | 1L << (week - 1));
     }
 
     /**
@@ -206,8 +316,30 @@ public class GroupMemberDetail implements Result {
      * @param week The week to unmark the attendance
      */
     public void unmarkAttendance(int week) {
-        checkArgument(isValidWeek(week), MESSAGE_CONSTRAINTS);
-        this.attendance[week - 1] = false;
+        checkArgument(isValidWeek(week), String.format(MESSAGE_CONSTRAINTS, getWeeks()));
+        setAttendance(attendance & ~(1L << (week - 1)));
+    }
+
+    /**
+     * Marks attendance for every week in {@code weeks}, a bitmask in which week {@code n} is bit {@code n - 1}.
+     * The weeks must be weeks of the group.
+     */
+    void markWeeks(long weeks) {
+        setAttendance(attendance | weeks);
+    }
+
+    /**
+     * Unmarks attendance for every week in {@code weeks}, a bitmask in which week {@code n} is bit {@code n - 1}.
+     */
+    void unmarkWeeks(long weeks) {
+        setAttendance(attendance & ~weeks);
+    }
+
+    private void setAttendance(long attendance) {
+        if (slot >= 0) {
+            group.getBuiltStatistics().attendanceChanged(attendance & ~this.attendance, this.attendance & ~attendance);
+        }
+        this.attendance = attendance;
     }
 
     /**
@@ -219,14 +351,18 @@ public class GroupMemberDetail implements Result {
         if (LocalDate.now().isAfter(assignment.getDeadline())) {
             score = score * penalty;
         }
-        grades.put(assignment, score);
+        if (slot < 0) {
+            grades.put(assignment, score);
+        } else {
+            group.getBuiltGradebook().setScore(slot, assignment, score);
+        }
     }
 
     /**
      * Gets the grade for the specified assignment.
      */
     public Float getAssignmentGrade(Assignment assignment) {
-        return this.grades.get(assignment);
+        return slot < 0 ? grades.get(assignment) : group.getBuiltGradebook().getScore(slot, assignment);
     }
 
     /**
@@ -270,7 +406,7 @@ public class GroupMemberDetail implements Result {
         return new ToStringBuilder(this)
                 .add("person", person)
                 .add("group", group)
-                .add("attendance", attendance)
+                .add("attendance", Arrays.toString(getAttendance()))
                 .add("role", role)
                 .toString();
     }
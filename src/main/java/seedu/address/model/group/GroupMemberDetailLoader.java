@@ -0,0 +1,20 @@
+package seedu.address.model.group;
+
+import java.util.Map;
+
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.person.Person;
+
+/**
+ * Builds the member details of a group whose details are loaded the first time they are needed.
+ * A loader may be called more than once, from different copies of the group, and must return new details each time.
+ */
+@FunctionalInterface
+public interface GroupMemberDetailLoader {
+
+    /**
+     * Returns the details of the group's members when it was loaded, keyed by member.
+     * Grades are keyed by the objects in {@code assignments}, the group's assignments keyed by name.
+     */
+    Map<Person, GroupMemberDetail> load(Map<String, Assignment> assignments);
+}
@@ -0,0 +1,107 @@
+package seedu.address.model.group;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.assignment.Assignment;
+
+/**
+ * Running statistics of the attendance and grades of the members of a {@code Group}.
+ * They are updated as members join and leave and as their attendance and grades change, so every query takes
+ * the same time however large the group is.
+ */
+public class GroupStatistics {
+
+    private final Gradebook gradebook;
+
+    /**
+     * The number of members who attended each week, with week {@code n} at index {@code n - 1}.
+     */
+    private final int[] attendedByWeek = new int[GroupMemberDetail.MAX_WEEKS];
+
+    private int memberCount;
+
+    GroupStatistics(Gradebook gradebook) {
+        this.gradebook = requireNonNull(gradebook);
+    }
+
+    /**
+     * Counts a member who joined with the given weeks attended.
+     */
+    void memberJoined(long attendance) {
+        memberCount++;
+        attendanceChanged(attendance, 0);
+    }
+
+    /**
+     * Stops counting a member who left with the given weeks attended.
+     */
+    void memberLeft(long attendance) {
+        memberCount--;
+        attendanceChanged(0, attendance);
+    }
+
+    /**
+     * Counts a member as having attended the weeks in {@code attended} and not the weeks in {@code unattended}.
+     * Both are bitmasks in which week {@code n} is bit {@code n - 1}.
+     */
+    void attendanceChanged(long attended, long unattended) {
+        for (long weeks = attended; weeks != 0; weeks &= weeks - 1) {
+            attendedByWeek[Long.numberOfTrailingZeros(weeks)]++;
+        }
+        for (long weeks = unattended; weeks != 0; weeks &= weeks - 1) {
+            attendedByWeek[Long.numberOfTrailingZeros(weeks)]--;
+        }
+    }
+
+    /**
+     * Returns the number of members counted.
+     */
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Returns the number of members who attended {@code week}.
+     */
+    public int countAttended(int week) {
+        return week >= 1 && week <= GroupMemberDetail.MAX_WEEKS ? attendedByWeek[week - 1] : 0;
+    }
+
+    /**
+     * Returns the fraction of members who attended {@code week}, or {@code NaN} if there are no members.
+     */
+    public double getAttendanceRate(int week) {
+        return memberCount == 0 ? Double.NaN : (double) countAttended(week) / memberCount;
+    }
+
+    /**
+     * Returns the number of members graded for {@code assignment}.
+     */
+    public int countGraded(Assignment assignment) {
+        return gradebook.countGraded(assignment);
+    }
+
+    /**
+     * Returns the mean score of the members graded for {@code assignment}, or {@code NaN} if none are.
+     */
+    public double getAverage(Assignment assignment) {
+        return gradebook.getAverage(assignment);
+    }
+
+    /**
+     * Returns the median score of the members graded for {@code assignment}, or {@code NaN} if none are.
+     */
+    public double getMedian(Assignment assignment) {
+        return gradebook.getMedian(assignment);
+    }
+
+    /**
+     * Returns the given percentile of the scores of the members graded for {@code assignment}, or {@code NaN}
+     * if none are.
+     *
+     * @see Gradebook#getPercentile(Assignment, double)
+     */
+    public double getPercentile(Assignment assignment, double percent) {
+        return gradebook.getPercentile(assignment, percent);
+    }
+}
@@ -3,17 +3,27 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.exceptions.DuplicateGroupsException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Person;
 
 /**
  * A list of groups that enforces uniqueness between its elements and does not allow nulls.
  * A group is considered unique by comparing using {@code Group#isSameGroup(Group)}.
+ * A hash index from group name to {@code Group} is kept in sync with the list. Groups in the list are renamed by
+ * replacing them with an edited copy through {@link #setGroup(Group, Group)}.
+ * A reverse index from each {@code Person} to the groups in this list that contain them is also maintained, so
+ * members of groups can only be changed through {@link #addMember}, {@link #removeMember} and {@link #setMember}.
  *
  * Supports a minimal set of list operations.
  *
@@ -24,13 +34,38 @@ public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final HashMap<String, Group> groupsByName = new HashMap<>();
+    private final HashMap<Person, List<Group>> groupsByMember = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGroup);
+        return groupsByName.containsKey(toCheck.getGroupName());
+    }
+
+    /**
+     * Returns the group with the given name.
+     *
+     * @throws GroupNotFoundException if no group in the list has that name.
+     */
+    public Group getGroup(String groupName) {
+        requireNonNull(groupName);
+        Group group = groupsByName.get(groupName);
+        if (group == null) {
+            throw new GroupNotFoundException();
+        }
+        return group;
+    }
+
+    /**
+     * Returns the groups in this list that contain {@code person}, in the order the person joined them.
+     */
+    public List<Group> getGroupsOf(Person person) {
+        requireNonNull(person);
+        List<Group> memberships = groupsByMember.get(person);
+        return memberships == null ? Collections.emptyList() : Collections.unmodifiableList(memberships);
     }
 
     /**
@@ -43,6 +78,7 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupsException();
         }
         internalList.add(toAdd);
+        track(toAdd);
     }
 
     /**
@@ -51,14 +87,22 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void remove(Group toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Group existing = groupsByName.get(toRemove.getGroupName());
+        if (existing == null || !existing.equals(toRemove)) {
             throw new GroupNotFoundException();
         }
+        internalList.remove(existing);
+        untrack(existing);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setGroups(UniqueGroupList replacement) {
         requireNonNull(replacement);
+        untrackAll();
         internalList.setAll(replacement.internalList);
+        internalList.forEach(this::track);
     }
 
     /**
@@ -71,9 +115,16 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupsException();
         }
 
+        untrackAll();
         internalList.setAll(groups);
+        internalList.forEach(this::track);
     }
 
+    /**
+     * Replaces the group {@code target} in the list with {@code editedGroup}.
+     * {@code target} must exist in the list.
+     * The name of {@code editedGroup} must not be the same as another existing group in the list.
+     */
     public void setGroup(Group target, Group editedGroup) {
         requireAllNonNull(target, editedGroup);
 
@@ -86,7 +137,68 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupsException();
         }
 
-        internalList.set(index, editedGroup);
+        Group replaced = internalList.set(index, editedGroup);
+        // Untrack first, since the edited group may have the same name and members as the replaced one
+        untrack(replaced);
+        track(editedGroup);
+    }
+
+    /**
+     * Adds {@code person} to {@code group}, which is in this list.
+     *
+     * @throws GroupNotFoundException if {@code group} is not in this list.
+     */
+    public void addMember(Group group, Person person) {
+        requireAllNonNull(group, person);
+        requireListed(group);
+        group.add(person);
+        memberAdded(group, person);
+    }
+
+    /**
+     * Removes {@code person} from {@code group}, which is in this list.
+     *
+     * @throws GroupNotFoundException if {@code group} is not in this list.
+     */
+    public void removeMember(Group group, Person person) {
+        requireAllNonNull(group, person);
+        requireListed(group);
+        group.remove(person);
+        memberRemoved(group, person);
+    }
+
+    /**
+     * Replaces the member {@code target} of {@code group}, which is in this list, with {@code editedPerson}.
+     *
+     * @throws GroupNotFoundException if {@code group} is not in this list.
+     */
+    public void setMember(Group group, Person target, Person editedPerson) {
+        requireAllNonNull(group, target, editedPerson);
+        requireListed(group);
+        group.setGroupMember(target, editedPerson);
+        memberRemoved(group, target);
+        memberAdded(group, editedPerson);
+    }
+
+    /**
+     * Records that {@code member} joined {@code group}, which is in this list.
+     */
+    private void memberAdded(Group group, Person member) {
+        groupsByMember.computeIfAbsent(member, unused -> new ArrayList<>()).add(group);
+    }
+
+    /**
+     * Records that {@code member} left {@code group}, which is in this list.
+     */
+    private void memberRemoved(Group group, Person member) {
+        List<Group> memberships = groupsByMember.get(member);
+        if (memberships == null) {
+            return;
+        }
+        memberships.removeIf(g -> g == group);
+        if (memberships.isEmpty()) {
+            groupsByMember.remove(member);
+        }
     }
 
     /**
@@ -129,14 +241,44 @@ public class UniqueGroupList implements Iterable<Group> {
      * Returns true if {@code groups} contains only unique groups.
      */
     private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        for (Group group : groups) {
+            if (!seenNames.add(group.getGroupName())) {
+                return false;
             }
         }
         return true;
     }
+
+    private void requireListed(Group group) {
+        if (groupsByName.get(group.getGroupName()) != group) {
+            throw new GroupNotFoundException();
+        }
+    }
+
+    /**
+     * Indexes {@code group} and its members.
+     */
+    private void track(Group group) {
+        groupsByName.put(group.getGroupName(), group);
+        for (Person member : group.getGroupMembers()) {
+            memberAdded(group, member);
+        }
+    }
+
+    /**
+     * Removes {@code group} and its members from the indexes.
+     */
+    private void untrack(Group group) {
+        groupsByName.remove(group.getGroupName());
+        for (Person member : group.getGroupMembers()) {
+            memberRemoved(group, member);
+        }
+    }
+
+    private void untrackAll() {
+        groupsByName.clear();
+        groupsByMember.clear();
+    }
 }
 
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.scene.layout.Region;
 import seedu.address.commons.util.ToStringBuilder;
@@ -17,9 +18,19 @@ import seedu.address.ui.UiPart;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Each person also has a numeric id that stays the same when their details are edited, so that stored references
+ * to the person do not change with their name. The id takes no part in equality.
  */
 public class Person implements Result {
 
+    /**
+     * The largest id given to or loaded for any person.
+     */
+    private static final AtomicLong latestId = new AtomicLong();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,9 +42,21 @@ public class Person implements Result {
 
     /**
      * Every field must be present and not null.
+     * The person is given a new id.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(latestId.incrementAndGet(), name, phone, email, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Only for persons whose id was given earlier, such as those read back from storage.
+     * Persons created later are given larger ids.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        latestId.accumulateAndGet(id, Math::max);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -41,6 +64,17 @@ public class Person implements Result {
         this.tags.addAll(tags);
     }
 
+    /**
+     * Returns a copy of this person with the id {@code id}.
+     */
+    public Person withId(long id) {
+        return new Person(id, name, phone, email, address, tags);
+    }
+
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
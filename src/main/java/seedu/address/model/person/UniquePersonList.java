@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Hash indexes from {@code Name} and from id to {@code Person} are kept in sync with the list, so that identity
+ * checks and lookups by name or id take constant time. No two persons in the list have the same id.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,31 +33,84 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final HashMap<Name, Person> personsByName = new HashMap<>();
+    private final HashMap<Long, Person> personsById = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person with the given {@code name}.
+     *
+     * @throws PersonNotFoundException if no person in the list has that name.
+     */
+    public Person getPerson(Name name) {
+        requireNonNull(name);
+        Person person = personsByName.get(name);
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
+    }
+
+    /**
+     * Returns the person with the given {@code id}.
+     *
+     * @throws PersonNotFoundException if no person in the list has that id.
+     */
+    public Person getPerson(long id) {
+        Person person = personsById.get(id);
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and no person in the list may have the same id.
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+        personsById.put(toAdd.getId(), toAdd);
+    }
+
+    /**
+     * Adds every person in {@code toAdd} to the end of the list, as one change to the list.
+     * The persons must be unique, and neither they nor their ids may already exist in the list.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        for (Person person : toAdd) {
+            if (contains(person) || personsById.containsKey(person.getId())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+        for (Person person : toAdd) {
+            personsByName.put(person.getName(), person);
+            personsById.put(person.getId(), person);
+        }
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list,
+     * and its id must be that of {@code target} or not in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -61,11 +120,16 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)
+                || target.getId() != editedPerson.getId() && personsById.containsKey(editedPerson.getId())) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+        personsById.remove(target.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
     }
 
     /**
@@ -74,14 +138,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        personsByName.remove(removed.getName());
+        personsById.remove(removed.getId());
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
     }
 
     /**
@@ -95,6 +170,12 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        personsByName.clear();
+        personsById.clear();
+        for (Person person : persons) {
+            personsByName.put(person.getName(), person);
+            personsById.put(person.getId(), person);
+        }
     }
 
     /**
@@ -138,11 +219,11 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        Set<Long> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName()) || !seenIds.add(person.getId())) {
+                return false;
             }
         }
         return true;
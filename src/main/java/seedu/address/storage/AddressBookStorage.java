@@ -42,4 +42,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Blocks until everything passed to {@link #saveAddressBook(ReadOnlyAddressBook)} has been written to disk.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Returns true if everything passed to {@link #saveAddressBook(ReadOnlyAddressBook)} has been written to disk.
+     * Storages that finish writing before {@code saveAddressBook} returns always return true.
+     * @throws IOException if a write that finished after {@code saveAddressBook} returned has failed.
+     *     Each failure is thrown only once.
+     */
+    default boolean isAddressBookSaved() throws IOException {
+        return true;
+    }
+
 }
@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that writes to another {@code AddressBookStorage} on a dedicated background thread.
+ *
+ * Saving takes a snapshot of the address book that later changes cannot affect, and returns without waiting for
+ * the disk. While a write is in progress, newer snapshots replace older ones that have not been written yet, so a
+ * burst of saves results in at most one more write. A failed background write is reported by the next call to
+ * {@link #isAddressBookSaved()}, {@link #flushAddressBook()} or save.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+
+    private final Executor writer;
+
+    /** Guards {@code pendingSaves}, {@code isWriting} and {@code failure}. */
+    private final Object lock = new Object();
+    /** The latest snapshot waiting to be written to each file, in the order the files were first saved to. */
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriting;
+    private IOException failure;
+
+    /**
+     * Copies of the groups in the last snapshot, keyed by the group they were copied from.
+     * A copy is reused while its group is unchanged, so a snapshot only copies the groups that changed.
+     */
+    private Map<Group, Group> groupCopies = new IdentityHashMap<>();
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes through to {@code addressBookStorage}.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage) {
+        this(addressBookStorage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "addressbook-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that writes through to {@code addressBookStorage} on
+     * {@code writer}, which must run one task at a time.
+     */
+    AsyncAddressBookStorage(AddressBookStorage addressBookStorage, Executor writer) {
+        requireAllNonNull(addressBookStorage, writer);
+        this.addressBookStorage = addressBookStorage;
+        this.writer = writer;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book at {@code filePath} after all pending saves have been written.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        try {
+            flushAddressBook();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return addressBookStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written to {@code filePath} in the background.
+     *
+     * @throws IOException if a previous background write failed. The new snapshot is still queued.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ReadOnlyAddressBook snapshot = takeSnapshot(addressBook);
+        IOException previousFailure;
+        synchronized (lock) {
+            pendingSaves.put(filePath, snapshot);
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writePendingSaves);
+            }
+            previousFailure = failure;
+            failure = null;
+        }
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+    }
+
+    /**
+     * Blocks until every queued snapshot has been written.
+     *
+     * @throws IOException if a background write failed since the last failure was reported.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        IOException previousFailure;
+        synchronized (lock) {
+            while (isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for data to be saved", e);
+                }
+            }
+            previousFailure = failure;
+            failure = null;
+        }
+        addressBookStorage.flushAddressBook();
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+    }
+
+    /**
+     * Returns true if no queued snapshot is waiting to be written or being written.
+     *
+     * @throws IOException if a background write failed since the last failure was reported.
+     */
+    @Override
+    public boolean isAddressBookSaved() throws IOException {
+        IOException previousFailure;
+        boolean isSaved;
+        synchronized (lock) {
+            isSaved = !isWriting;
+            previousFailure = failure;
+            failure = null;
+        }
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+        return isSaved;
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that does not change when {@code addressBook} does.
+     * Persons are immutable and are shared with {@code addressBook}.
+     */
+    private synchronized ReadOnlyAddressBook takeSnapshot(ReadOnlyAddressBook addressBook) {
+        Map<Group, Group> copies = new IdentityHashMap<>();
+        List<Group> groups = new ArrayList<>();
+        for (Group group : addressBook.getGroupList()) {
+            Group copy = groupCopies.get(group);
+            if (copy == null || copy.getVersion() != group.getVersion()) {
+                copy = group.deepCopy();
+            }
+            copies.put(group, copy);
+            groups.add(copy);
+        }
+        groupCopies = copies;
+        return new Snapshot(new ArrayList<>(addressBook.getPersonList()), groups);
+    }
+
+    /**
+     * Writes queued snapshots until there are none left. Runs on the writer thread.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            Path filePath;
+            ReadOnlyAddressBook snapshot;
+            synchronized (lock) {
+                Iterator<Map.Entry<Path, ReadOnlyAddressBook>> iterator = pendingSaves.entrySet().iterator();
+                if (!iterator.hasNext()) {
+                    isWriting = false;
+                    lock.notifyAll();
+                    return;
+                }
+                Map.Entry<Path, ReadOnlyAddressBook> next = iterator.next();
+                iterator.remove();
+                filePath = next.getKey();
+                snapshot = next.getValue();
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(snapshot, filePath);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Could not save data to " + filePath + ": " + e);
+                synchronized (lock) {
+                    if (failure == null) {
+                        failure = e instanceof IOException ioe ? ioe : new IOException(e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An unmodifiable address book made of copied lists.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Group> groups;
+
+        Snapshot(List<Person> persons, List<Group> groups) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            this.groups = FXCollections.unmodifiableObservableList(FXCollections.observableList(groups));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Group> getGroupList() {
+            return groups;
+        }
+    }
+}
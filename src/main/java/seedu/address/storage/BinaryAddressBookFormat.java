@@ -0,0 +1,386 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ArrayListMap;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupMemberDetail;
+import seedu.address.model.group.GroupMemberDetail.Role;
+import seedu.address.model.group.exceptions.DuplicateGroupsException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an address book in a compact, versioned binary format, and decodes it again.
+ *
+ * <pre>
+ * file        := "TABB" version:u8 strings persons groups crc32c:u32
+ * strings     := count (length utf8-bytes)*
+ * persons     := count (id name phone email address tags)*       each field but the id is an index into strings
+ * tags        := count string-index*
+ * groups      := count (name weeks tags assignments members)*
+ * assignments := count (name deadline:zigzag-epoch-day penalty:f32)*
+ * members     := count (person-index role attendance grades)*
+ * attendance  := bits                                               week n is bit n - 1
+ * grades      := count (key [assignment] [score:f32])*
+ * </pre>
+ * Counts, lengths, ids, weeks, indices, keys and attendance bits are unsigned varints. In a grade key, the lowest
+ * bit is set when a score follows, and the remaining bits are one more than the index of the graded assignment in
+ * the group's assignments, or zero when the assignment is written out in full after the key. The checksum covers
+ * everything before it.
+ */
+class BinaryAddressBookFormat {
+
+    public static final int VERSION = 3;
+
+    private static final byte[] MAGIC = "TABB".getBytes(StandardCharsets.US_ASCII);
+    private static final int CHECKSUM_BYTES = 4;
+    private static final Role[] ROLES = Role.values();
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookFormat.class);
+
+    /**
+     * Writes {@code addressBook} to {@code out} in this format.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        Encoder body = new Encoder();
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> stringTable = new ArrayList<>();
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Long, Integer> personIndices = new HashMap<>();
+        body.writeVarint(persons.size());
+        for (Person person : persons) {
+            personIndices.put(person.getId(), personIndices.size());
+            body.writeVarint(person.getId());
+            body.writeString(person.getName().fullName, strings, stringTable);
+            body.writeString(person.getPhone().value, strings, stringTable);
+            body.writeString(person.getEmail().value, strings, stringTable);
+            body.writeString(person.getAddress().value, strings, stringTable);
+            writeTags(body, person.getTags(), strings, stringTable);
+        }
+
+        List<Group> groups = addressBook.getGroupList();
+        body.writeVarint(groups.size());
+        for (Group group : groups) {
+            body.writeString(group.getGroupName(), strings, stringTable);
+            body.writeVarint(group.getWeeks());
+            writeTags(body, group.getTags(), strings, stringTable);
+            List<Assignment> assignments = new ArrayList<>(group.getAssignments());
+            body.writeVarint(assignments.size());
+            for (Assignment assignment : assignments) {
+                writeAssignment(body, assignment, strings, stringTable);
+            }
+            writeMembers(body, group, assignments, personIndices, strings, stringTable);
+        }
+
+        Encoder header = new Encoder();
+        header.writeBytes(MAGIC);
+        header.write(VERSION);
+        header.writeVarint(stringTable.size());
+        for (String string : stringTable) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            header.writeVarint(bytes.length);
+            header.writeBytes(bytes);
+        }
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(header.buffer(), 0, header.size());
+        checksum.update(body.buffer(), 0, body.size());
+        header.writeTo(out);
+        body.writeTo(out);
+        out.write(ByteBuffer.allocate(CHECKSUM_BYTES).putInt((int) checksum.getValue()).array());
+    }
+
+    private static void writeTags(Encoder body, Set<Tag> tags, Map<String, Integer> strings,
+            List<String> stringTable) {
+        body.writeVarint(tags.size());
+        for (Tag tag : tags) {
+            body.writeString(tag.tagName, strings, stringTable);
+        }
+    }
+
+    private static void writeAssignment(Encoder body, Assignment assignment, Map<String, Integer> strings,
+            List<String> stringTable) {
+        body.writeString(assignment.getName(), strings, stringTable);
+        long epochDay = assignment.getDeadline().toEpochDay();
+        body.writeVarint((epochDay << 1) ^ (epochDay >> 63));
+        body.writeFloat(assignment.getPenalty());
+    }
+
+    private static void writeMembers(Encoder body, Group group, List<Assignment> assignments,
+            Map<Long, Integer> personIndices, Map<String, Integer> strings, List<String> stringTable) {
+        List<GroupMemberDetail> members = new ArrayList<>();
+        for (GroupMemberDetail member : group.getGroupMembersMap().values()) {
+            if (personIndices.containsKey(member.getPerson().getId())) {
+                members.add(member);
+            } else {
+                logger.warning("Not saving member " + member.getPerson().getName() + " of group "
+                        + group.getGroupName() + ", who is not in the address book.");
+            }
+        }
+
+        body.writeVarint(members.size());
+        for (GroupMemberDetail member : members) {
+            body.writeVarint(personIndices.get(member.getPerson().getId()));
+            body.writeVarint(member.getRole().ordinal());
+
+            body.writeVarint(member.getAttendanceBits());
+
+            ArrayListMap<Assignment, Float> grades = member.getGrades();
+            body.writeVarint(grades.size());
+            for (Map.Entry<Assignment, Float> grade : grades.entrySet()) {
+                int assignmentIndex = indexOfAssignment(assignments, grade.getKey());
+                boolean hasScore = grade.getValue() != null;
+                body.writeVarint(((long) (assignmentIndex + 1) << 1) | (hasScore ? 1 : 0));
+                if (assignmentIndex == -1) {
+                    writeAssignment(body, grade.getKey(), strings, stringTable);
+                }
+                if (hasScore) {
+                    body.writeFloat(grade.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code assignment}, or of an assignment with the same details, in {@code assignments},
+     * or -1 if there is none.
+     */
+    private static int indexOfAssignment(List<Assignment> assignments, Assignment assignment) {
+        for (int i = 0; i < assignments.size(); i++) {
+            Assignment candidate = assignments.get(i);
+            if (candidate == assignment
+                    || (candidate.getName().equals(assignment.getName())
+                    && candidate.getDeadline().equals(assignment.getDeadline())
+                    && candidate.getPenalty().equals(assignment.getPenalty()))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads an address book in this format from the remaining bytes of {@code data}, which may be memory-mapped.
+     * Strings are decoded straight from {@code data}, without copying the file into a byte array first.
+     * Values are not validated again, since the checksum shows that they are exactly as they were written.
+     * Grades of assignments that belong to the group are keyed by the group's own {@code Assignment} objects.
+     *
+     * @throws IllegalValueException if the data is not in this format, or is corrupted.
+     */
+    public static AddressBook read(ByteBuffer data) throws IllegalValueException {
+        try {
+            verifyChecksum(data);
+            Decoder in = new Decoder(data);
+            for (byte expected : MAGIC) {
+                if (data.get() != expected) {
+                    throw new IllegalValueException("Not a binary address book file.");
+                }
+            }
+            int version = data.get();
+            if (version != VERSION) {
+                throw new IllegalValueException("Unsupported binary address book version: " + version);
+            }
+
+            String[] strings = new String[in.readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                int length = in.readCount();
+                strings[i] = StandardCharsets.UTF_8.decode(data.slice(data.position(), length)).toString();
+                data.position(data.position() + length);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            Person[] persons = new Person[in.readCount()];
+            for (int i = 0; i < persons.length; i++) {
+                long id = in.readVarint();
+                Name name = Name.ofTrusted(in.readString(strings));
+                Phone phone = Phone.ofTrusted(in.readString(strings));
+                Email email = Email.ofTrusted(in.readString(strings));
+                Address address = Address.ofTrusted(in.readString(strings));
+                Set<Tag> tags = readTags(in, strings);
+                persons[i] = new Person(id, name, phone, email, address, tags);
+                addressBook.addPerson(persons[i]);
+            }
+
+            int groupCount = in.readCount();
+            for (int i = 0; i < groupCount; i++) {
+                addressBook.addGroup(readGroup(in, strings, persons));
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | DuplicatePersonException | DuplicateGroupsException e) {
+            throw new IllegalValueException("Corrupted binary address book file: " + e);
+        }
+    }
+
+    private static void verifyChecksum(ByteBuffer data) throws IllegalValueException {
+        int end = data.limit() - CHECKSUM_BYTES;
+        if (end < data.position()) {
+            throw new IllegalValueException("Binary address book file is truncated.");
+        }
+        CRC32C checksum = new CRC32C();
+        ByteBuffer content = data.duplicate();
+        content.limit(end);
+        checksum.update(content);
+        if ((int) checksum.getValue() != data.getInt(end)) {
+            throw new IllegalValueException("Binary address book file is corrupted: checksum does not match.");
+        }
+        data.limit(end);
+    }
+
+    private static Set<Tag> readTags(Decoder in, String[] strings) {
+        int count = in.readCount();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(Tag.ofTrusted(in.readString(strings)));
+        }
+        return tags;
+    }
+
+    private static Assignment readAssignment(Decoder in, String[] strings) {
+        String name = in.readString(strings);
+        long zigzag = in.readVarint();
+        LocalDate deadline = LocalDate.ofEpochDay((zigzag >>> 1) ^ -(zigzag & 1));
+        return new Assignment(name, deadline, in.readFloat());
+    }
+
+    private static Group readGroup(Decoder in, String[] strings, Person[] persons) {
+        String name = in.readString(strings);
+        int weeks = in.readCount();
+        Set<Tag> tags = readTags(in, strings);
+        Assignment[] assignments = new Assignment[in.readCount()];
+        for (int i = 0; i < assignments.length; i++) {
+            assignments[i] = readAssignment(in, strings);
+        }
+
+        int memberCount = in.readCount();
+        ArrayListMap<Person, GroupMemberDetail> members = new ArrayListMap<>();
+        for (int i = 0; i < memberCount; i++) {
+            Person person = persons[in.readCount()];
+            Role role = ROLES[in.readCount()];
+
+            long attendance = in.readVarint();
+
+            int gradeCount = in.readCount();
+            ArrayListMap<Assignment, Float> grades = new ArrayListMap<>();
+            for (int j = 0; j < gradeCount; j++) {
+                long key = in.readVarint();
+                int assignmentIndex = (int) (key >>> 1) - 1;
+                Assignment assignment = assignmentIndex == -1
+                        ? readAssignment(in, strings)
+                        : assignments[assignmentIndex];
+                grades.put(assignment, (key & 1) != 0 ? in.readFloat() : null);
+            }
+            members.put(person, new GroupMemberDetail(person, role, attendance, grades));
+        }
+
+        Group group = Group.ofTrusted(name, members, tags, List.of(assignments));
+        for (GroupMemberDetail member : members.values()) {
+            member.setGroup(group);
+        }
+        group.setWeeks(weeks);
+        return group;
+    }
+
+    /**
+     * A growable byte buffer with the primitive writes used by this format.
+     */
+    private static class Encoder extends ByteArrayOutputStream {
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeFloat(float value) {
+            int bits = Float.floatToIntBits(value);
+            write(bits >>> 24);
+            write(bits >>> 16);
+            write(bits >>> 8);
+            write(bits);
+        }
+
+        void writeString(String value, Map<String, Integer> strings, List<String> stringTable) {
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = stringTable.size();
+                strings.put(value, index);
+                stringTable.add(value);
+            }
+            writeVarint(index);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    /**
+     * Reads the primitives of this format from a {@code ByteBuffer}.
+     */
+    private static class Decoder {
+        private final ByteBuffer data;
+
+        Decoder(ByteBuffer data) {
+            this.data = data;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = data.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        /**
+         * Reads a varint that is used as a count, length or index.
+         */
+        int readCount() {
+            long value = readVarint();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Count out of range: " + value);
+            }
+            return (int) value;
+        }
+
+        float readFloat() {
+            return data.getFloat();
+        }
+
+        String readString(String[] strings) {
+            return strings[readCount()];
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookFormat}.
+ *
+ * The existing json data file is imported the first time the binary file is read, if there is no binary file yet.
+ * From then on, the binary file is the one read, and the json data file is only rewritten from the latest save when
+ * saves are flushed, which the app does when it stops, rather than on every save. Switching back to the json format
+ * after a clean exit therefore keeps every change, but changes saved since the last flush are only in the binary file.
+ *
+ * The two files are told apart by their modification times, which a flush or an import makes equal. If the json data
+ * file was modified after the binary file, such as by using the json format for a while, it is imported again instead
+ * of reading the stale binary file. If the binary file was modified after the json data file, such as when the app did
+ * not stop cleanly, the binary file is read and the json data file is rewritten from it at the next flush.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    /**
+     * The latest address book saved to the binary file that has not been written to the json data file yet.
+     */
+    private ReadOnlyAddressBook unexported;
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}.
+     *
+     * @param jsonFilePath json data file to import when there is no binary file yet, and to keep up to date when
+     *     saves are flushed, or null to do neither.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the location of the binary data file that goes with the json data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If there is no binary file at this storage's own location, the json data file is imported instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (!Files.exists(filePath)) {
+            return isOwnFile ? importFromJson() : Optional.empty();
+        }
+
+        try {
+            int jsonAge = isOwnFile ? compareJsonModifiedTime() : 0;
+            if (jsonAge > 0) {
+                logger.warning(jsonFilePath + " was modified after " + filePath + " was last saved, "
+                        + "so it is imported again instead.");
+                return importFromJson();
+            }
+            ReadOnlyAddressBook addressBook = BinaryAddressBookFormat.read(mapFile(filePath));
+            if (jsonAge < 0) {
+                logger.warning(jsonFilePath + " is older than " + filePath + ", possibly because the app did not "
+                        + "stop cleanly. It will be rewritten from " + filePath + " when saves are next flushed.");
+                synchronized (this) {
+                    unexported = addressBook;
+                }
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns a positive number if the json data file was modified after this storage's binary file, a negative
+     * number if it was modified before or is missing, or zero if they were modified at the same time or there is no
+     * json data file to keep up to date.
+     */
+    private int compareJsonModifiedTime() throws IOException {
+        if (jsonFilePath == null) {
+            return 0;
+        }
+        if (!Files.exists(jsonFilePath)) {
+            return -1;
+        }
+        return Files.getLastModifiedTime(jsonFilePath).compareTo(Files.getLastModifiedTime(filePath));
+    }
+
+    /**
+     * Gives this storage's binary file the modification time of the json data file, to record that both hold the
+     * same data.
+     */
+    private void matchJsonModifiedTime() throws IOException {
+        Files.setLastModifiedTime(filePath, Files.getLastModifiedTime(jsonFilePath));
+    }
+
+    /**
+     * Returns the contents of the file at {@code filePath}, memory-mapped so that they are decoded straight from the
+     * page cache without first being copied onto the heap.
+     * On Windows, a mapped file cannot be overwritten until the mapping is garbage collected, which would make
+     * the next save fail, so the file is read onto the heap there instead.
+     */
+    private static ByteBuffer mapFile(Path filePath) throws IOException {
+        if (IS_WINDOWS) {
+            return ByteBuffer.wrap(Files.readAllBytes(filePath));
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            BinaryAddressBookFormat.write(addressBook, out);
+        }
+        if (filePath.equals(this.filePath) && jsonFilePath != null) {
+            unexported = addressBook;
+        }
+    }
+
+    /**
+     * Writes the latest address book saved to the binary file to the json data file, if it has changed since the
+     * last flush. Saves to the binary file are written synchronously, so there is nothing else to flush.
+     */
+    @Override
+    public synchronized void flushAddressBook() throws IOException {
+        if (unexported == null) {
+            return;
+        }
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(unexported);
+        matchJsonModifiedTime();
+        unexported = null;
+        logger.info("Exported " + filePath + " to " + jsonFilePath);
+    }
+
+    /**
+     * Reads the json data file and saves it as this storage's binary file.
+     */
+    private Optional<ReadOnlyAddressBook> importFromJson() throws DataLoadingException {
+        if (jsonFilePath == null) {
+            return Optional.empty();
+        }
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            try {
+                synchronized (this) {
+                    saveAddressBook(addressBook.get());
+                    matchJsonModifiedTime();
+                    // The json data file already holds what was just imported
+                    unexported = null;
+                }
+                logger.info("Imported " + jsonFilePath + " into " + filePath);
+            } catch (IOException e) {
+                logger.warning("Could not save imported data to " + filePath + ": " + e);
+            }
+        }
+        return addressBook;
+    }
+}
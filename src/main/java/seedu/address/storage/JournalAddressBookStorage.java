@@ -0,0 +1,355 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, together with an append-only
+ * journal of the changes made since the snapshot was written.
+ *
+ * Each save appends one {@link JsonJournalEntry} line per person or group that changed since the previous save,
+ * so the cost of a save depends on the size of the change rather than the size of the address book.
+ * Once the journal grows past the compaction threshold, a new snapshot is written on a background thread
+ * and the journal is started afresh. Reading loads the snapshot and replays the journal on top of it.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Journal size, in bytes, past which the journal is compacted into a new snapshot. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    /** Journal whose entries are being folded into the snapshot by a background compaction. */
+    private final Path compactingJournalPath;
+    private final long compactionThreshold;
+
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "addressbook-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> pendingCompaction;
+
+    /**
+     * The persons and groups as they were when the files on disk were last brought up to date,
+     * or null if the files on disk are not known to match any address book in memory.
+     */
+    private Map<Name, Person> savedPersons;
+    private Map<String, SavedGroup> savedGroups;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage whose journal is compacted once it is larger than {@code compactionThreshold} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + ".journal");
+        this.compactingJournalPath = filePath.resolveSibling(filePath.getFileName() + ".journal.compacting");
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than this storage's own data file are read as plain json files without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBook();
+        }
+
+        try {
+            awaitCompaction();
+        } catch (IOException e) {
+            logger.warning("Previous compaction of " + filePath + " failed, replaying its journal instead: " + e);
+        }
+
+        Optional<JsonSerializableAddressBook> snapshot =
+                JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class);
+        if (snapshot.isEmpty() && !Files.exists(compactingJournalPath) && !Files.exists(journalPath)) {
+            return Optional.empty();
+        }
+
+        JsonSerializableAddressBook data = snapshot.orElseGet(() -> new JsonSerializableAddressBook(new AddressBook()));
+        try {
+            int replayed = replay(compactingJournalPath, data) + replay(journalPath, data);
+            logger.info("Replayed " + replayed + " journal entries on top of " + filePath);
+            AddressBook addressBook = data.toModelType();
+            recordSaved(addressBook);
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than this storage's own data file are written as complete json files.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+
+        if (savedPersons == null) {
+            compact(addressBook);
+            return;
+        }
+
+        List<JsonJournalEntry> entries = diff(addressBook);
+        if (!entries.isEmpty()) {
+            append(entries);
+        }
+        recordSaved(addressBook);
+
+        if (Files.exists(journalPath) && Files.size(journalPath) > compactionThreshold) {
+            compact(addressBook);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        awaitCompaction();
+    }
+
+    /**
+     * Blocks until any background compaction has finished.
+     *
+     * @throws IOException if that compaction failed to write the snapshot.
+     */
+    private synchronized void awaitCompaction() throws IOException {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for compaction", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not write snapshot " + filePath + ": " + e.getCause().getMessage(),
+                    e.getCause());
+        } finally {
+            pendingCompaction = null;
+        }
+    }
+
+    /**
+     * Returns the journal entries that bring the saved address book up to date with {@code addressBook}.
+     */
+    private List<JsonJournalEntry> diff(ReadOnlyAddressBook addressBook) {
+        List<JsonJournalEntry> entries = new ArrayList<>();
+
+        List<Person> persons = addressBook.getPersonList();
+        Set<Name> currentNames = new HashSet<>();
+        for (Person person : persons) {
+            currentNames.add(person.getName());
+        }
+        for (Name savedName : savedPersons.keySet()) {
+            if (!currentNames.contains(savedName)) {
+                entries.add(JsonJournalEntry.removePerson(savedName.fullName));
+            }
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            if (savedPersons.get(person.getName()) != person) {
+                entries.add(JsonJournalEntry.putPerson(i, new JsonAdaptedPerson(person)));
+            }
+        }
+
+        List<Group> groups = addressBook.getGroupList();
+        Set<String> currentGroupNames = new HashSet<>();
+        for (Group group : groups) {
+            currentGroupNames.add(group.getGroupName());
+        }
+        for (String savedName : savedGroups.keySet()) {
+            if (!currentGroupNames.contains(savedName)) {
+                entries.add(JsonJournalEntry.removeGroup(savedName));
+            }
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            Group group = groups.get(i);
+            SavedGroup saved = savedGroups.get(group.getGroupName());
+            if (saved == null || saved.group != group || saved.version != group.getVersion()) {
+                entries.add(JsonJournalEntry.putGroup(i, new JsonAdaptedGroup(group)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Remembers the persons and groups of {@code addressBook} as the state of the files on disk.
+     */
+    private void recordSaved(ReadOnlyAddressBook addressBook) {
+        savedPersons = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            savedPersons.put(person.getName(), person);
+        }
+        savedGroups = new HashMap<>();
+        for (Group group : addressBook.getGroupList()) {
+            savedGroups.put(group.getGroupName(), new SavedGroup(group, group.getVersion()));
+        }
+    }
+
+    private void append(List<JsonJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        FileUtil.createIfMissing(journalPath);
+        Files.write(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Captures {@code addressBook} as a snapshot, starts a new journal and writes the snapshot in the background.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        awaitCompaction();
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        retireJournal();
+        recordSaved(addressBook);
+        pendingCompaction = compactor.submit(() -> {
+            writeSnapshot(snapshot);
+            return null;
+        });
+    }
+
+    /**
+     * Moves the current journal aside so that new entries go to a fresh journal while the snapshot is written.
+     * The retired entries are kept until the snapshot that contains them is in place.
+     */
+    private void retireJournal() throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        if (Files.exists(compactingJournalPath)) {
+            // A previous compaction did not finish; keep its entries ahead of the current ones.
+            Files.write(compactingJournalPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, compactingJournalPath);
+        }
+    }
+
+    private void writeSnapshot(JsonSerializableAddressBook snapshot) throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.createIfMissing(tempPath);
+        JsonUtil.saveJsonFile(snapshot, tempPath);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(compactingJournalPath);
+        logger.fine("Compacted journal into " + filePath);
+    }
+
+    /**
+     * Applies the entries of the journal at {@code path} to {@code data} and returns how many were applied.
+     * A truncated final entry, left behind by an interrupted write, is ignored.
+     */
+    private int replay(Path path, JsonSerializableAddressBook data)
+            throws DataLoadingException, IllegalValueException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        int applied = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + path);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+            entry.applyTo(data);
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * A group together with its version at the time it was saved.
+     */
+    private static class SavedGroup {
+        private final Group group;
+        private final long version;
+
+        SavedGroup(Group group, long version) {
+            this.group = group;
+            this.version = version;
+        }
+    }
+}
@@ -54,4 +54,11 @@ public class JsonAdaptedAssignment {
         final Float modelPenalty = penalty;
         return new Assignment(modelName, modelDate, modelPenalty);
     }
+
+    /**
+     * Converts this adapted assignment into the model's {@code Assignment} object without validating its name.
+     */
+    Assignment toTrustedModelType() {
+        return new Assignment(name, deadline, penalty);
+    }
 }
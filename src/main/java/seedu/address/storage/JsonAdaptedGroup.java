@@ -1,21 +1,30 @@
 package seedu.address.storage;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ArrayListMap;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.assignment.Assignment;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupMemberDetail;
+import seedu.address.model.group.GroupMemberDetailLoader;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -23,31 +32,46 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Group}.
+ *
+ * Members are keyed by the id of the person, so renaming a person does not change the groups they are in.
+ * Groups saved before persons had ids key their members by name instead, and can still be read.
  */
 class JsonAdaptedGroup {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Group's %s field is missing!";
+    public static final String MESSAGE_INVALID_MEMBER_ID = "Group member id %s is not a number.";
 
     private static final Logger logger = LogsCenter.getLogger(JsonAdaptedGroup.class);
 
     private final String name;
+    private final Integer weeks;
 
-    private final ArrayListMap<String, JsonAdaptedGroupMemberDetails> groupMembers = new ArrayListMap<>();
+    private final ArrayListMap<String, JsonAdaptedGroupMemberDetails> members = new ArrayListMap<>();
+    @JsonIgnore
+    private final ArrayListMap<String, JsonAdaptedGroupMemberDetails> membersByName = new ArrayListMap<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final ArrayList<JsonAdaptedAssignment> assignments = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedGroup} with the given person details.
+     * Constructs a {@code JsonAdaptedGroup} with the given details.
+     * {@code members} are keyed by person id, while {@code persons} is keyed by name.
      */
     @JsonCreator
     public JsonAdaptedGroup(@JsonProperty("name") String name,
+                            @JsonProperty("weeks") Integer weeks,
+                            @JsonProperty("members") ArrayListMap<String, JsonAdaptedGroupMemberDetails>
+                                    members,
                             @JsonProperty("persons") ArrayListMap<String, JsonAdaptedGroupMemberDetails>
                                     persons,
                             @JsonProperty("tags") List<JsonAdaptedTag> tags,
                             @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments) {
         this.name = name;
+        this.weeks = weeks;
+        if (members != null) {
+            this.members.putAll(members);
+        }
         if (persons != null) {
-            this.groupMembers.putAll(persons);
+            this.membersByName.putAll(persons);
         }
         if (tags != null) {
             this.tags.addAll(tags);
@@ -62,10 +86,11 @@ class JsonAdaptedGroup {
      */
     public JsonAdaptedGroup(Group source) {
         name = source.getGroupName();
+        weeks = source.getWeeks();
         for (Map.Entry<Person, GroupMemberDetail> entry : source.getGroupMembersMap().entrySet()) {
-            String key = entry.getKey().getName().fullName;
+            String key = String.valueOf(entry.getKey().getId());
             JsonAdaptedGroupMemberDetails value = new JsonAdaptedGroupMemberDetails(entry.getValue());
-            this.groupMembers.put(key, value);
+            this.members.put(key, value);
         }
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -76,50 +101,225 @@ class JsonAdaptedGroup {
                 .collect(Collectors.toList()));
     }
 
+    String getName() {
+        return name;
+    }
+
     /**
      * Converts this Jackson-friendly adapted group object into the model's {@code Group} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Group toModelType(AddressBook addressBook) throws IllegalValueException {
+        final List<Tag> modelTags = new ArrayList<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toModelType());
+        }
+
+        final List<Assignment> modelAssignments = new ArrayList<>();
+        for (JsonAdaptedAssignment assignment : assignments) {
+            modelAssignments.add(assignment.toModelType());
+        }
+        final Map<String, Assignment> assignmentsByName = indexByName(modelAssignments);
+
         final ArrayListMap<Person, GroupMemberDetail> modelGroupMembers = new ArrayListMap<>();
-        for (Map.Entry<String, JsonAdaptedGroupMemberDetails> entry : groupMembers.entrySet()) {
-            String personName = entry.getKey();
-            GroupMemberDetail groupMemberDetail;
-            Person person;
-            try {
-                person = addressBook.getPerson(personName);
-                groupMemberDetail = entry.getValue().toModelType(person);
-                modelGroupMembers.put(person, groupMemberDetail);
-            } catch (PersonNotFoundException e) {
-                // Person not found in addressbook, remove from group as well.
-                logger.info("Person in Group datafile not found in Address Book:" + personName
-                        + ". Removing from Group data.");
+        for (Map.Entry<String, JsonAdaptedGroupMemberDetails> entry : members.entrySet()) {
+            putMember(modelGroupMembers, findMember(addressBook, entry.getKey(), true), entry.getValue(),
+                    assignmentsByName);
+        }
+        for (Map.Entry<String, JsonAdaptedGroupMemberDetails> entry : membersByName.entrySet()) {
+            putMember(modelGroupMembers, findMember(addressBook, entry.getKey(), false), entry.getValue(),
+                    assignmentsByName);
+        }
+
+        return createGroup(name, weeks, modelGroupMembers, modelTags, modelAssignments);
+    }
+
+    /**
+     * Reads the group object that {@code parser} is positioned at and converts it straight into the model's
+     * {@code Group} object, one member at a time, without building a {@code JsonAdaptedGroup} first.
+     * Members are looked up by id or name in {@code addressBook}, which must already hold every person.
+     * The details of the members of a trusted group are only copied as compact json, and are converted the first
+     * time the group needs them. Those of other groups are converted once all of the group's assignments are read,
+     * since grades refer to them.
+     *
+     * @param isTrusted if true, the group comes from an unmodified data file and its values are not validated.
+     * @throws IOException if the content of {@code parser} is not a valid json group.
+     * @throws IllegalValueException if there were any data constraints violated in the group.
+     */
+    static Group read(JsonParser parser, AddressBook addressBook, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        String modelName = null;
+        Integer modelWeeks = null;
+        final List<Person> untrustedMembers = new ArrayList<>();
+        final List<JsonAdaptedGroupMemberDetails> untrustedMemberDetails = new ArrayList<>();
+        final List<Person> trustedMembers = new ArrayList<>();
+        final ByteArrayOutputStream trustedMemberDetails = new ByteArrayOutputStream();
+        final List<Tag> modelTags = new ArrayList<>();
+        final List<Assignment> modelAssignments = new ArrayList<>();
+
+        JsonGenerator trustedDetailsGenerator = JsonUtil.createJsonGenerator(trustedMemberDetails, true);
+        trustedDetailsGenerator.writeStartArray();
+        JsonSerializableAddressBook.requireToken(parser.getCurrentToken(), JsonToken.START_OBJECT, parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
                 continue;
             }
+            switch (fieldName) {
+            case "name":
+                modelName = parser.getValueAsString();
+                break;
+            case "weeks":
+                modelWeeks = parser.getValueAsInt();
+                break;
+            case "members":
+            case "persons":
+                JsonSerializableAddressBook.requireToken(token, JsonToken.START_OBJECT, parser);
+                boolean isKeyedById = "members".equals(fieldName);
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.getCurrentName();
+                    parser.nextToken();
+                    if (isTrusted) {
+                        trustedMembers.add(isKeyedById
+                                ? addressBook.getPerson(Long.parseLong(key))
+                                : addressBook.getPerson(Name.ofTrusted(key)));
+                        trustedDetailsGenerator.copyCurrentStructure(parser);
+                    } else {
+                        untrustedMembers.add(findMember(addressBook, key, isKeyedById));
+                        untrustedMemberDetails.add(parser.readValueAs(JsonAdaptedGroupMemberDetails.class));
+                    }
+                }
+                break;
+            case "tags":
+                JsonSerializableAddressBook.requireToken(token, JsonToken.START_ARRAY, parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedTag tag = parser.readValueAs(JsonAdaptedTag.class);
+                    modelTags.add(isTrusted ? tag.toTrustedModelType() : tag.toModelType());
+                }
+                break;
+            case "assignments":
+                JsonSerializableAddressBook.requireToken(token, JsonToken.START_ARRAY, parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedAssignment assignment = parser.readValueAs(JsonAdaptedAssignment.class);
+                    modelAssignments.add(isTrusted ? assignment.toTrustedModelType() : assignment.toModelType());
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
         }
 
-        final List<Tag> modelTags = new ArrayList<>();
-        for (JsonAdaptedTag tag : tags) {
-            modelTags.add(tag.toModelType());
+        trustedDetailsGenerator.writeEndArray();
+        trustedDetailsGenerator.close();
+
+        if (isTrusted) {
+            Group group = Group.ofTrusted(modelName, trustedMembers, modelTags, modelAssignments,
+                    createDetailLoader(trustedMembers, trustedMemberDetails.toByteArray()));
+            if (modelWeeks != null) {
+                group.setWeeks(modelWeeks);
+            }
+            return group;
         }
+        final Map<String, Assignment> assignmentsByName = indexByName(modelAssignments);
+        final ArrayListMap<Person, GroupMemberDetail> modelGroupMembers = new ArrayListMap<>();
+        for (int i = 0; i < untrustedMembers.size(); i++) {
+            putMember(modelGroupMembers, untrustedMembers.get(i), untrustedMemberDetails.get(i), assignmentsByName);
+        }
+        return createGroup(modelName, modelWeeks, modelGroupMembers, modelTags, modelAssignments);
+    }
+
+    /**
+     * Returns the person in {@code addressBook} that {@code key} refers to, or null if there is none.
+     *
+     * @param isKeyedById if true, {@code key} is the id of the person; otherwise, it is their name.
+     * @throws IllegalValueException if {@code key} is not a valid id.
+     */
+    private static Person findMember(AddressBook addressBook, String key, boolean isKeyedById)
+            throws IllegalValueException {
+        try {
+            if (!isKeyedById) {
+                return addressBook.getPerson(key);
+            }
+            return addressBook.getPerson(Long.parseLong(key));
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_MEMBER_ID, key));
+        } catch (PersonNotFoundException e) {
+            // Person not found in addressbook, remove from group as well.
+            logger.info("Person in Group datafile not found in Address Book:" + key
+                    + ". Removing from Group data.");
+            return null;
+        }
+    }
+
+    /**
+     * Adds {@code person} to {@code modelGroupMembers}.
+     * Members who are not in the address book, whose {@code person} is null, are dropped from the group.
+     */
+    private static void putMember(ArrayListMap<Person, GroupMemberDetail> modelGroupMembers, Person person,
+            JsonAdaptedGroupMemberDetails details, Map<String, Assignment> assignmentsByName)
+            throws IllegalValueException {
+        if (person != null) {
+            modelGroupMembers.put(person, details.toModelType(person, assignmentsByName));
+        }
+    }
+
+    private static Map<String, Assignment> indexByName(List<Assignment> assignments) {
+        Map<String, Assignment> assignmentsByName = new HashMap<>();
+        for (Assignment assignment : assignments) {
+            assignmentsByName.put(assignment.getName(), assignment);
+        }
+        return assignmentsByName;
+    }
+
+    /**
+     * Returns a loader that converts {@code memberDetails}, a json array of the details of each of
+     * {@code members} in order, into the model's {@code GroupMemberDetail} objects.
+     */
+    private static GroupMemberDetailLoader createDetailLoader(List<Person> members, byte[] memberDetails) {
+        return assignments -> {
+            Map<Person, GroupMemberDetail> details = new HashMap<>();
+            try (JsonParser parser = JsonUtil.createJsonParser(memberDetails)) {
+                parser.nextToken();
+                for (Person member : members) {
+                    parser.nextToken();
+                    details.put(member, parser.readValueAs(JsonAdaptedGroupMemberDetails.class)
+                            .toModelType(member, assignments));
+                }
+            } catch (IOException | IllegalValueException e) {
+                // The details were read from a data file that matched its checksum, so they were valid when saved.
+                throw new IllegalStateException("Could not load the details of group members", e);
+            }
+            return details;
+        };
+    }
 
+    /**
+     * Groups saved before the number of weeks could be set, without {@code weeks}, take the default number.
+     */
+    private static Group createGroup(String name, Integer weeks,
+            ArrayListMap<Person, GroupMemberDetail> modelGroupMembers, List<Tag> modelTags,
+            List<Assignment> modelAssignments) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
         if (!Group.isValidGroupName(name)) {
             throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
         }
-        final String modelName = name;
-
-        final List<Assignment> modelAssignments = new ArrayList<>();
-        for (JsonAdaptedAssignment assignment : assignments) {
-            modelAssignments.add(assignment.toModelType());
+        if (weeks != null && !Group.isValidWeeks(weeks)) {
+            throw new IllegalValueException(Group.MESSAGE_WEEKS_CONSTRAINTS);
         }
 
-        Group modelGroup = new Group(modelName, modelGroupMembers, modelTags, modelAssignments);
+        Group group = linkMembers(new Group(name, modelGroupMembers, modelTags, modelAssignments));
+        // Also forgets any attendance saved for weeks after the last one
+        group.setWeeks(weeks == null ? GroupMemberDetail.WEEKS_PER_SEMESTER : weeks);
+        return group;
+    }
+
+    private static Group linkMembers(Group modelGroup) {
         // Set all GroupMemberDetail.group to this
-        for (GroupMemberDetail value : modelGroupMembers.values()) {
+        for (GroupMemberDetail value : modelGroup.getGroupMembersMap().values()) {
             value.setGroup(modelGroup);
         }
         return modelGroup;
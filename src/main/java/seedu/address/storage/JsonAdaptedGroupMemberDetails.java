@@ -3,43 +3,59 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.ArrayListMap;
 import seedu.address.model.assignment.Assignment;
+import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupMemberDetail;
 import seedu.address.model.group.GroupMemberDetail.Role;
 import seedu.address.model.person.Person;
 /**
  * Jackson-friendly version of {@link GroupMemberDetail}.
+ *
+ * Grades are keyed by the name of the graded assignment, which refers to an assignment of the member's group.
+ * Only assignments that are not in the group are written out in full, in {@code assignments}.
+ * Attendance is written as one integer, {@code attendanceBits}, in which week {@code n} is bit {@code n - 1}.
+ * Details saved before then, with a list of booleans under {@code attendance}, can still be read.
  */
 public class JsonAdaptedGroupMemberDetails {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "GroupMember's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_ASSIGNMENT = "Graded assignment %s is not in the group!";
+    public static final String MESSAGE_INVALID_SCORE = "Score of assignment %s is not a finite number!";
 
     private Role role;
-    private List<Boolean> attendance = new ArrayList<>();
+    private Long attendanceBits;
+    @JsonIgnore
+    private List<Boolean> legacyAttendance = new ArrayList<>();
     private ArrayListMap<String, Float> grades = new ArrayListMap<>();
     private ArrayListMap<String, JsonAdaptedAssignment> assignments = new ArrayListMap<>();
 
     /**
      * Constructs a {@code JsonAdaptedGroupMemberDetails} from the given details.
+     * {@code attendance} is only read when there are no {@code attendanceBits}.
      */
     @JsonCreator
     public JsonAdaptedGroupMemberDetails(@JsonProperty("Role") Role role,
+                                         @JsonProperty("attendanceBits") Long attendanceBits,
                                          @JsonProperty("attendance") List<Boolean> attendance,
                                          @JsonProperty("grades")
                                          ArrayListMap<String, Float> grades,
                                          @JsonProperty("assignments")
                                          ArrayListMap<String, JsonAdaptedAssignment> assignments) {
         this.role = role;
+        this.attendanceBits = attendanceBits;
         if (attendance != null) {
-            this.attendance.addAll(attendance);
+            this.legacyAttendance.addAll(attendance);
         }
         if (grades != null) {
             this.grades.putAll(grades);
@@ -54,36 +70,60 @@ public class JsonAdaptedGroupMemberDetails {
      */
     public JsonAdaptedGroupMemberDetails(GroupMemberDetail source) {
         this.role = source.getRole();
-        for (boolean attendance : source.getAttendance()) {
-            this.attendance.add(attendance);
-        };
+        this.attendanceBits = source.getAttendanceBits();
+        Group group = source.getGroup();
         for (Map.Entry<Assignment, Float> entry : source.getGrades().entrySet()) {
-            Float valueFloat = entry.getValue();
-            JsonAdaptedAssignment valueAssignment = new JsonAdaptedAssignment(entry.getKey());
             String key = entry.getKey().getName();
-            this.grades.put(key, valueFloat);
-            this.assignments.put(key, valueAssignment);
+            this.grades.put(key, entry.getValue());
+            if (!isAssignmentOf(group, entry.getKey())) {
+                this.assignments.put(key, new JsonAdaptedAssignment(entry.getKey()));
+            }
         }
     }
+
+    private static boolean isAssignmentOf(Group group, Assignment assignment) {
+        return group != null && group.containsAssignment(assignment.getName())
+                && group.getAssignment(assignment.getName()) == assignment;
+    }
+
     /**
      * Converts this Jackson-friendly adapted group object into the model's {@code GroupMemberDetail} object.
+     * Grades are keyed by the {@code Assignment} objects in {@code groupAssignments}, the assignments of the group
+     * keyed by name, so that the member shares them with the group.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
-    public GroupMemberDetail toModelType(Person person) throws IllegalValueException {
+    public GroupMemberDetail toModelType(Person person, Map<String, Assignment> groupAssignments)
+            throws IllegalValueException {
         requireNonNull(person);
         Person modelPerson = person;
         Role modelRole = this.role;
-        boolean[] modelAttendance = new boolean[GroupMemberDetail.WEEKS_PER_SEMESTER];
-        for (int i = 0; i < GroupMemberDetail.WEEKS_PER_SEMESTER; i++) {
-            modelAttendance[i] = this.attendance.get(i);
+        long modelAttendance = attendanceBits != null ? attendanceBits : 0;
+        if (attendanceBits == null) {
+            for (int i = 0; i < legacyAttendance.size() && i < GroupMemberDetail.MAX_WEEKS; i++) {
+                if (Boolean.TRUE.equals(legacyAttendance.get(i))) {
+                    modelAttendance |= 1L << i;
+                }
+            }
         }
         ArrayListMap<Assignment, Float> modelGrade = new ArrayListMap<>();
 
-        for (Map.Entry<String, JsonAdaptedAssignment> entry : this.assignments.entrySet()) {
-            Assignment key = entry.getValue().toModelType();
-            Float value = this.grades.get(entry.getKey());
-            modelGrade.put(key, value);
+        // Details saved before grades referred to the group's assignments have every assignment written out
+        Set<String> gradedNames = new LinkedHashSet<>(this.grades.keySet());
+        gradedNames.addAll(this.assignments.keySet());
+        for (String name : gradedNames) {
+            Assignment key = groupAssignments.get(name);
+            if (key == null && this.assignments.containsKey(name)) {
+                key = this.assignments.get(name).toModelType();
+            }
+            if (key == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ASSIGNMENT, name));
+            }
+            Float score = this.grades.get(name);
+            if (score != null && !Float.isFinite(score)) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SCORE, name));
+            }
+            modelGrade.put(key, score);
         }
         return new GroupMemberDetail(modelPerson, modelRole, modelAttendance, modelGrade);
     }
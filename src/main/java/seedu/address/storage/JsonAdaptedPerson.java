@@ -24,19 +24,29 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, address, tags);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A person without an {@code id}, such as one saved before persons had ids, is given a new id when converted.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -50,6 +60,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -59,6 +70,17 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a copy of this adapted person without its id, so that it is given a new id when converted.
+     */
+    JsonAdaptedPerson withoutId() {
+        return new JsonAdaptedPerson(null, name, phone, email, address, tags);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -103,7 +125,23 @@ class JsonAdaptedPerson {
         final Address modelAddress = new Address(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        if (id == null) {
+            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        }
+        return new Person(id, modelName, modelPhone, modelEmail, modelAddress, modelTags);
+    }
+
+    /**
+     * Converts this adapted person into the model's {@code Person} object without validating any of its fields.
+     * Only for persons read back from an unmodified data file, whose fields were valid when they were saved.
+     */
+    Person toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toTrustedModelType());
+        }
+        return new Person(id, Name.ofTrusted(name), Phone.ofTrusted(phone), Email.ofTrusted(email),
+                Address.ofTrusted(address), modelTags);
     }
 
 }
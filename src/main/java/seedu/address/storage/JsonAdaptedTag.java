@@ -45,4 +45,11 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Converts this adapted tag into the model's {@code Tag} object without validating it.
+     */
+    Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName);
+    }
+
 }
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The schema version, size and CRC-32C checksum of a json data file.
+ * It is saved next to the data file so that a file that has not changed since it was saved can be loaded
+ * without validating its contents again.
+ */
+class JsonAddressBookChecksum {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int schemaVersion;
+    private final long size;
+    private final long crc32c;
+
+    /**
+     * Constructs a {@code JsonAddressBookChecksum} with the given details.
+     */
+    @JsonCreator
+    public JsonAddressBookChecksum(@JsonProperty("schemaVersion") int schemaVersion, @JsonProperty("size") long size,
+            @JsonProperty("crc32c") long crc32c) {
+        this.schemaVersion = schemaVersion;
+        this.size = size;
+        this.crc32c = crc32c;
+    }
+
+    /**
+     * Computes the checksum of the data file at {@code filePath}, taking it to be in the current schema version.
+     */
+    public static JsonAddressBookChecksum of(Path filePath) throws IOException {
+        CRC32C checksum = new CRC32C();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long size = 0;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checksum.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        return new JsonAddressBookChecksum(JsonSerializableAddressBook.SCHEMA_VERSION, size, checksum.getValue());
+    }
+
+    /**
+     * Returns the location of the checksum of the data file at {@code filePath}.
+     */
+    public static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".checksum");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JsonAddressBookChecksum)) {
+            return false;
+        }
+
+        JsonAddressBookChecksum otherChecksum = (JsonAddressBookChecksum) other;
+        return schemaVersion == otherChecksum.schemaVersion
+                && size == otherChecksum.size
+                && crc32c == otherChecksum.crc32c;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(schemaVersion, size, crc32c);
+    }
+}
@@ -2,10 +2,23 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -16,15 +29,51 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * Each save also writes a {@link JsonAddressBookChecksum} next to the data file. When the data file still matches
+ * that checksum, it is loaded without validating its values again; otherwise it is validated in full.
+ *
+ * Data files whose name ends with {@value #COMPRESSED_FILE_EXTENSION} are saved gzip-compressed. Compressed files are
+ * recognised by their content when loading, whatever their name.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
+    /**
+     * The {@link Deflater} level of compressed saves. On address book data it saves as fast as the fastest level,
+     * because there is less to write, while the best level is about three times slower for a little smaller file.
+     */
+    static final int DEFAULT_COMPRESSION_LEVEL = Deflater.DEFAULT_COMPRESSION;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath}.
+     *
+     * @param isCompact if true, the file is written without indentation or line breaks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath} that compresses files at {@code compressionLevel}.
+     */
+    JsonAddressBookStorage(Path filePath, boolean isCompact, int compressionLevel) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +94,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        boolean isTrusted = isUnmodifiedSinceSaved(filePath);
+        try (JsonParser parser = JsonUtil.createJsonParser(openDataFile(filePath))) {
+            return Optional.of(JsonSerializableAddressBook.read(parser, isTrusted));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +125,75 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        CRC32C checksum = new CRC32C();
+        OutputStream out = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE), checksum);
+        if (isCompressed(filePath)) {
+            out = new LeveledGzipOutputStream(out, compressionLevel);
+        }
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, isCompact)) {
+            JsonSerializableAddressBook.write(addressBook, generator);
+        }
+        JsonUtil.saveJsonFile(new JsonAddressBookChecksum(JsonSerializableAddressBook.SCHEMA_VERSION,
+                Files.size(filePath), checksum.getValue()), JsonAddressBookChecksum.getChecksumFilePath(filePath));
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} is saved compressed.
+     */
+    static boolean isCompressed(Path filePath) {
+        return filePath.getFileName().toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Opens the data file at {@code filePath} for reading, decompressing it if it starts with the gzip magic number.
+     */
+    private static InputStream openDataFile(Path filePath) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | in.read() << 8;
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} is in the current schema version and has not changed since
+     * it was last saved, according to the checksum saved with it.
+     */
+    private static boolean isUnmodifiedSinceSaved(Path filePath) {
+        Path checksumFilePath = JsonAddressBookChecksum.getChecksumFilePath(filePath);
+        try {
+            Optional<JsonAddressBookChecksum> saved = JsonUtil.readJsonFile(checksumFilePath,
+                    JsonAddressBookChecksum.class);
+            if (saved.isPresent() && saved.get().equals(JsonAddressBookChecksum.of(filePath))) {
+                logger.info(filePath + " is unchanged since it was saved, skipping validation.");
+                return true;
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not check " + filePath + " against " + checksumFilePath + ": " + e);
+        }
+        logger.info(filePath + " may have changed since it was saved, validating it in full.");
+        return false;
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is nothing left to flush.
+    }
+
+    /**
+     * A {@link GZIPOutputStream} that compresses at a given {@link Deflater} level.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
     }
 
 }
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly record of a single change to the address book, stored as one line of the journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalEntry {
+
+    public static final String PUT_PERSON = "putPerson";
+    public static final String REMOVE_PERSON = "removePerson";
+    public static final String PUT_GROUP = "putGroup";
+    public static final String REMOVE_GROUP = "removeGroup";
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry for %s is missing its %s field!";
+
+    private final String op;
+    private final Integer index;
+    private final String name;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedGroup group;
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("name") String name, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("group") JsonAdaptedGroup group) {
+        this.op = op;
+        this.index = index;
+        this.name = name;
+        this.person = person;
+        this.group = group;
+    }
+
+    /**
+     * Returns an entry that puts {@code person} at {@code index} of the person list.
+     */
+    public static JsonJournalEntry putPerson(int index, JsonAdaptedPerson person) {
+        return new JsonJournalEntry(PUT_PERSON, index, null, person, null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code name}.
+     */
+    public static JsonJournalEntry removePerson(String name) {
+        return new JsonJournalEntry(REMOVE_PERSON, null, name, null, null);
+    }
+
+    /**
+     * Returns an entry that puts {@code group} at {@code index} of the group list.
+     */
+    public static JsonJournalEntry putGroup(int index, JsonAdaptedGroup group) {
+        return new JsonJournalEntry(PUT_GROUP, index, null, null, group);
+    }
+
+    /**
+     * Returns an entry that removes the group named {@code name}.
+     */
+    public static JsonJournalEntry removeGroup(String name) {
+        return new JsonJournalEntry(REMOVE_GROUP, null, name, null, null);
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the entry is malformed.
+     */
+    public void applyTo(JsonSerializableAddressBook addressBook) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+        switch (op) {
+        case PUT_PERSON:
+            requirePresent(person, "person");
+            requirePresent(index, "index");
+            addressBook.putPerson(index, person);
+            break;
+        case REMOVE_PERSON:
+            requirePresent(name, "name");
+            addressBook.removePerson(name);
+            break;
+        case PUT_GROUP:
+            requirePresent(group, "group");
+            requirePresent(index, "index");
+            addressBook.putGroup(index, group);
+            break;
+        case REMOVE_GROUP:
+            requirePresent(name, "name");
+            addressBook.removeGroup(name);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    private void requirePresent(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, op, fieldName));
+        }
+    }
+}
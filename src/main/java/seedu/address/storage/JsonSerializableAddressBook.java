@@ -1,18 +1,28 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,11 +31,28 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains persons with the same id.";
     public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
 
+    /**
+     * Version of the json format written by {@link #write}. It must be increased whenever the format changes,
+     * so that files checksummed in an older format are validated again when they are loaded.
+     */
+    public static final int SCHEMA_VERSION = 4;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedGroup> groups = new ArrayList<>();
 
+    /**
+     * Positions of the persons and groups by name, built on the first journal entry applied and kept up to date
+     * by the entries after it, so that replaying a journal does not search the lists for every entry.
+     * Null until built, or after an entry shifts the positions, in which case they are built again when next used.
+     */
+    @JsonIgnore
+    private Map<String, Integer> personIndices;
+    @JsonIgnore
+    private Map<String, Integer> groupIndices;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons and groups.
      */
@@ -47,6 +74,166 @@ class JsonSerializableAddressBook {
         groups.addAll(source.getGroupList().stream().map(JsonAdaptedGroup::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the same format as a {@code JsonSerializableAddressBook},
+     * converting one person or group at a time so that no full copy of the address book is held in memory.
+     */
+    public static void write(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("groups");
+        for (Group group : source.getGroupList()) {
+            generator.writeObject(new JsonAdaptedGroup(group));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written by {@link #write} from {@code parser}, converting each person and group into
+     * the model's types as soon as it has been parsed, so that no full copy of the file is held in memory.
+     * Groups that appear before the persons in the file are kept in their adapted form until the persons are read.
+     *
+     * @param isTrusted if true, the content was written by {@link #write} and has not been modified since, so values
+     *     and duplicates are not checked again.
+     * @throws IOException if the content of {@code parser} is not valid json in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(JsonParser parser, boolean isTrusted) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        List<JsonAdaptedGroup> groupsBeforePersons = new ArrayList<>();
+        boolean hasReadPersons = false;
+
+        requireToken(parser.nextToken(), JsonToken.START_OBJECT, parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if ("persons".equals(fieldName) && token != JsonToken.VALUE_NULL) {
+                requireToken(token, JsonToken.START_ARRAY, parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+                    if (isTrusted) {
+                        addressBook.addPerson(person.toTrustedModelType());
+                    } else {
+                        addPerson(addressBook, person.toModelType());
+                    }
+                }
+                hasReadPersons = true;
+            } else if ("groups".equals(fieldName) && token != JsonToken.VALUE_NULL) {
+                requireToken(token, JsonToken.START_ARRAY, parser);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (hasReadPersons && isTrusted) {
+                        addressBook.addGroup(JsonAdaptedGroup.read(parser, addressBook, true));
+                    } else if (hasReadPersons) {
+                        addGroup(addressBook, JsonAdaptedGroup.read(parser, addressBook, false));
+                    } else {
+                        groupsBeforePersons.add(parser.readValueAs(JsonAdaptedGroup.class));
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        requireToken(parser.getCurrentToken(), JsonToken.END_OBJECT, parser);
+
+        for (JsonAdaptedGroup jsonAdaptedGroup : groupsBeforePersons) {
+            addGroup(addressBook, jsonAdaptedGroup.toModelType(addressBook));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Throws a {@code JsonParseException} unless {@code token} is {@code expected}.
+     */
+    static void requireToken(JsonToken token, JsonToken expected, JsonParser parser) throws JsonParseException {
+        if (token != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + token);
+        }
+    }
+
+    /**
+     * Replaces the person with the same name as {@code person}, keeping its position,
+     * or inserts {@code person} at {@code index} if there is no such person.
+     */
+    void putPerson(int index, JsonAdaptedPerson person) {
+        if (personIndices == null) {
+            personIndices = indexByName(persons, JsonAdaptedPerson::getName);
+        }
+        Integer existing = personIndices.get(person.getName());
+        if (existing != null) {
+            persons.set(existing, person);
+        } else if (index >= persons.size()) {
+            personIndices.put(person.getName(), persons.size());
+            persons.add(person);
+        } else {
+            persons.add(index, person);
+            personIndices = null;
+        }
+    }
+
+    /**
+     * Removes the person named {@code name}, if there is one.
+     */
+    void removePerson(String name) {
+        if (personIndices == null) {
+            personIndices = indexByName(persons, JsonAdaptedPerson::getName);
+        }
+        Integer existing = personIndices.get(name);
+        if (existing != null) {
+            persons.remove((int) existing);
+            personIndices = null;
+        }
+    }
+
+    /**
+     * Replaces the group with the same name as {@code group}, keeping its position,
+     * or inserts {@code group} at {@code index} if there is no such group.
+     */
+    void putGroup(int index, JsonAdaptedGroup group) {
+        if (groupIndices == null) {
+            groupIndices = indexByName(groups, JsonAdaptedGroup::getName);
+        }
+        Integer existing = groupIndices.get(group.getName());
+        if (existing != null) {
+            groups.set(existing, group);
+        } else if (index >= groups.size()) {
+            groupIndices.put(group.getName(), groups.size());
+            groups.add(group);
+        } else {
+            groups.add(index, group);
+            groupIndices = null;
+        }
+    }
+
+    /**
+     * Removes the group named {@code name}, if there is one.
+     */
+    void removeGroup(String name) {
+        if (groupIndices == null) {
+            groupIndices = indexByName(groups, JsonAdaptedGroup::getName);
+        }
+        Integer existing = groupIndices.get(name);
+        if (existing != null) {
+            groups.remove((int) existing);
+            groupIndices = null;
+        }
+    }
+
+    /**
+     * Returns the position of each element of {@code list} by its name, keeping the first of any repeated name.
+     */
+    private static <T> Map<String, Integer> indexByName(List<T> list, Function<T, String> getName) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            indices.putIfAbsent(getName.apply(list.get(i)), i);
+        }
+        return indices;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
@@ -55,20 +242,30 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addPerson(addressBook, jsonAdaptedPerson.toModelType());
         }
         for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
-            Group group = jsonAdaptedGroup.toModelType(addressBook);
-            if (addressBook.hasGroup(group)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
-            }
-            addressBook.addGroup(group);
+            addGroup(addressBook, jsonAdaptedGroup.toModelType(addressBook));
         }
         return addressBook;
     }
 
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.addPerson(person);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON_ID);
+        }
+    }
+
+    private static void addGroup(AddressBook addressBook, Group group) throws IllegalValueException {
+        if (addressBook.hasGroup(group)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
+        }
+        addressBook.addGroup(group);
+    }
+
 }
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a sharded address book: the file holding the persons, and the files holding
+ * each group, in the order of the groups.
+ */
+class JsonShardManifest {
+
+    public static final int VERSION = 1;
+
+    private final int version;
+    private final String persons;
+    private final List<String> groups = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard files.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("version") int version, @JsonProperty("persons") String persons,
+            @JsonProperty("groups") List<String> groups) {
+        this.version = version;
+        this.persons = persons;
+        if (groups != null) {
+            this.groups.addAll(groups);
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getPersons() {
+        return persons;
+    }
+
+    public List<String> getGroups() {
+        return groups;
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons to import from a file, either as comma-separated values or as one JSON person per line.
+ * Reading is split into two stages: {@link #readRows(Path)} parses the file into unvalidated rows, and
+ * {@link #toModelType(List)} validates the rows in parallel.
+ */
+public class PersonImportFile {
+
+    public static final String MESSAGE_INVALID_CSV_ROW = "Line %d: expected NAME,PHONE,EMAIL,ADDRESS[,TAGS]";
+    public static final String MESSAGE_INVALID_JSON_ROW = "Line %d: not a JSON person";
+    public static final String MESSAGE_INVALID_PERSON = "Line %d: %s";
+
+    private static final String CSV_HEADER_NAME = "name";
+    private static final List<String> JSON_LINES_EXTENSIONS = List.of(".jsonl", ".ndjson");
+
+    /**
+     * An unvalidated person read from a file.
+     *
+     * @param lineNumber The number of the line the person was read from, starting from 1.
+     * @param person     The person, without an id.
+     */
+    public record Row(int lineNumber, JsonAdaptedPerson person) {}
+
+    /**
+     * Reads the persons in {@code file} without validating them, in the order they appear.
+     * Files named with a {@code .jsonl} or {@code .ndjson} extension are read as one JSON person per line,
+     * and other files as comma-separated values with an optional {@code name,phone,email,address,tags} header.
+     * Tags are separated by spaces. Blank lines are skipped.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if a line cannot be parsed into a person.
+     */
+    public static List<Row> readRows(Path file) throws IOException, IllegalValueException {
+        requireNonNull(file);
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return JSON_LINES_EXTENSIONS.stream().anyMatch(fileName::endsWith)
+                    ? readJsonLines(reader)
+                    : readCsv(new CsvReader(reader));
+        }
+    }
+
+    private static List<Row> readJsonLines(BufferedReader reader) throws IOException, IllegalValueException {
+        List<Row> rows = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonAdaptedPerson person;
+            try {
+                person = JsonUtil.fromJsonString(line, JsonAdaptedPerson.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_JSON_ROW, lineNumber), e);
+            }
+            // Imported persons are new to this address book, whatever ids they had elsewhere
+            rows.add(new Row(lineNumber, person.withoutId()));
+        }
+        return rows;
+    }
+
+    private static List<Row> readCsv(CsvReader reader) throws IOException, IllegalValueException {
+        List<Row> rows = new ArrayList<>();
+        boolean isFirstRow = true;
+        for (List<String> fields = reader.readRow(); fields != null; fields = reader.readRow()) {
+            boolean isHeader = isFirstRow && fields.get(0).trim().equalsIgnoreCase(CSV_HEADER_NAME);
+            isFirstRow = false;
+            if (isHeader || fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (fields.size() != 4 && fields.size() != 5) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_CSV_ROW, reader.getRowLineNumber()));
+            }
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            if (fields.size() == 5 && !fields.get(4).isBlank()) {
+                Arrays.stream(fields.get(4).trim().split("\\s+")).map(JsonAdaptedTag::new).forEach(tags::add);
+            }
+            rows.add(new Row(reader.getRowLineNumber(), new JsonAdaptedPerson(fields.get(0).trim(),
+                    fields.get(1).trim(), fields.get(2).trim(), fields.get(3).trim(), tags)));
+        }
+        return rows;
+    }
+
+    /**
+     * Validates every row and converts it into a {@code Person} with a new id, in the order of the rows.
+     * Rows are validated in parallel, since each row is independent of the others.
+     *
+     * @throws IllegalValueException for the first row, in order, that is not a valid person.
+     */
+    public static List<Person> toModelType(List<Row> rows) throws IllegalValueException {
+        Person[] persons = new Person[rows.size()];
+        String[] errors = new String[rows.size()];
+        IntStream.range(0, rows.size()).parallel().forEach(i -> {
+            try {
+                persons[i] = rows.get(i).person().toModelType();
+            } catch (IllegalValueException e) {
+                errors[i] = String.format(MESSAGE_INVALID_PERSON, rows.get(i).lineNumber(), e.getMessage());
+            }
+        });
+        for (String error : errors) {
+            if (error != null) {
+                throw new IllegalValueException(error);
+            }
+        }
+        return Arrays.asList(persons);
+    }
+}
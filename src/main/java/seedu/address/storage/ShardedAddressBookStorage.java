@@ -0,0 +1,341 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a folder of json shards: one file for all persons, one file per
+ * group with its members, attendance, grades and assignments, and a {@link JsonShardManifest} listing them.
+ *
+ * A save only rewrites the shards that changed since the previous save, so a command that touches one group costs
+ * as much to save as that group. A shard is never overwritten: each changed shard is written to a new file, the
+ * manifest listing the new files is then moved into place in one step, and only after that are the shards it no
+ * longer lists deleted. An interrupted save therefore leaves the previous manifest pointing at the previous shards.
+ * The existing json data file is imported the first time the folder is read, if there is no manifest yet.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE = "manifest.json";
+
+    private static final String PERSONS_FILE_PREFIX = "persons-";
+    private static final String GROUP_FILE_PREFIX = "group-";
+    private static final String SHARD_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path folderPath;
+    private final Path jsonFilePath;
+
+    /**
+     * The shards as they were when this storage's folder was last brought up to date,
+     * or null if the folder is not known to match any address book in memory.
+     */
+    private List<Person> savedPersons;
+    private String savedPersonsFile;
+    private Map<String, SavedShard> savedGroups;
+    private List<String> savedGroupFiles;
+
+    /**
+     * The number to try first in the name of the next shard file to be written.
+     */
+    private int nextFileNumber = 1;
+
+    /**
+     * Creates a storage for the shards in the folder at {@code folderPath}.
+     *
+     * @param jsonFilePath json data file to import when there is no manifest yet, or null to import nothing.
+     */
+    public ShardedAddressBookStorage(Path folderPath, Path jsonFilePath) {
+        requireNonNull(folderPath);
+        this.folderPath = folderPath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the location of the shard folder that goes with the json data file at {@code jsonFilePath}.
+     */
+    public static Path getShardFolderPath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + "-shards");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return folderPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(folderPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If there is no manifest in this storage's own folder, the json data file is imported instead.
+     *
+     * @param folderPath location of the shards. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path folderPath) throws DataLoadingException {
+        requireNonNull(folderPath);
+        boolean isOwnFolder = folderPath.equals(this.folderPath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(folderPath.resolve(MANIFEST_FILE),
+                JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            return isOwnFolder ? importFromJson() : Optional.empty();
+        }
+        if (manifest.get().getVersion() != JsonShardManifest.VERSION) {
+            throw new DataLoadingException(new IllegalValueException(
+                    "Unsupported shard manifest version: " + manifest.get().getVersion()));
+        }
+
+        try {
+            AddressBook addressBook;
+            try (JsonParser parser = JsonUtil.createJsonParser(folderPath.resolve(manifest.get().getPersons()))) {
+                addressBook = JsonSerializableAddressBook.read(parser, false);
+            }
+            Map<String, SavedShard> groupShards = new HashMap<>();
+            for (String groupFile : manifest.get().getGroups()) {
+                Group group;
+                try (JsonParser parser = JsonUtil.createJsonParser(folderPath.resolve(groupFile))) {
+                    parser.nextToken();
+                    group = JsonAdaptedGroup.read(parser, addressBook, false);
+                }
+                if (addressBook.hasGroup(group)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_GROUP);
+                }
+                addressBook.addGroup(group);
+                groupShards.put(group.getGroupName(), new SavedShard(groupFile, group.getVersion()));
+            }
+
+            if (isOwnFolder) {
+                savedPersons = new ArrayList<>(addressBook.getPersonList());
+                savedPersonsFile = manifest.get().getPersons();
+                savedGroups = groupShards;
+                savedGroupFiles = new ArrayList<>(manifest.get().getGroups());
+                nextFileNumber = nextFileNumber(manifest.get());
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading shards in " + folderPath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + folderPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, folderPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Folders other than this storage's own folder are always written in full.
+     *
+     * @param folderPath location of the shards. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path folderPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(folderPath);
+
+        if (!folderPath.equals(this.folderPath)) {
+            new ShardedAddressBookStorage(folderPath, null).saveAddressBook(addressBook);
+            return;
+        }
+        if (savedPersons == null) {
+            savedGroups = new HashMap<>();
+            savedGroupFiles = List.of();
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        String personsFile = savedPersonsFile;
+        boolean isPersonsChanged = savedPersons == null || !isSameInstances(savedPersons, persons);
+        if (isPersonsChanged) {
+            personsFile = writeShard(PERSONS_FILE_PREFIX, generator -> {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart("persons");
+                for (Person person : persons) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            });
+        }
+
+        Map<String, SavedShard> groupShards = new HashMap<>();
+        List<String> groupFiles = new ArrayList<>();
+        int groupsWritten = 0;
+        for (Group group : addressBook.getGroupList()) {
+            SavedShard saved = savedGroups.get(group.getGroupName());
+            if (saved == null || saved.version != group.getVersion()) {
+                String groupFile = writeShard(GROUP_FILE_PREFIX,
+                        generator -> generator.writeObject(new JsonAdaptedGroup(group)));
+                saved = new SavedShard(groupFile, group.getVersion());
+                groupsWritten++;
+            }
+            groupShards.put(group.getGroupName(), saved);
+            groupFiles.add(saved.file);
+        }
+
+        if (isPersonsChanged || !groupFiles.equals(savedGroupFiles)) {
+            Path manifestPath = folderPath.resolve(MANIFEST_FILE);
+            Path tempPath = folderPath.resolve(MANIFEST_FILE + ".tmp");
+            FileUtil.createIfMissing(tempPath);
+            JsonUtil.saveJsonFile(new JsonShardManifest(JsonShardManifest.VERSION, personsFile, groupFiles),
+                    tempPath);
+            Files.move(tempPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Set<String> listed = new HashSet<>(groupFiles);
+            listed.add(personsFile);
+            deleteUnlistedShards(listed);
+        }
+
+        savedPersons = new ArrayList<>(persons);
+        savedPersonsFile = personsFile;
+        savedGroups = groupShards;
+        savedGroupFiles = groupFiles;
+        logger.fine("Saved " + folderPath + ": persons " + (isPersonsChanged ? "rewritten" : "unchanged")
+                + ", " + groupsWritten + " of " + groupFiles.size() + " groups rewritten");
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Saves are written synchronously, so there is nothing left to flush.
+    }
+
+    private static boolean isSameInstances(List<Person> saved, List<Person> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a shard with {@code content} into a new file, whose name starts with {@code prefix}, and returns the
+     * name of the file. The file is not listed by the manifest yet, so an interrupted write is never read.
+     */
+    private String writeShard(String prefix, ShardWriter content) throws IOException {
+        String fileName;
+        Path filePath;
+        do {
+            fileName = prefix + nextFileNumber++ + SHARD_FILE_SUFFIX;
+            filePath = folderPath.resolve(fileName);
+        } while (Files.exists(filePath));
+        FileUtil.createIfMissing(filePath);
+        try (JsonGenerator generator = JsonUtil.createJsonGenerator(filePath, false)) {
+            content.write(generator);
+        }
+        return fileName;
+    }
+
+    /**
+     * Deletes the shard files in the folder that are not in {@code listed}, including those left behind by a save
+     * that was interrupted before its manifest was moved into place.
+     */
+    private void deleteUnlistedShards(Set<String> listed) throws IOException {
+        try (var files = Files.list(folderPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                boolean isShard = (name.startsWith(PERSONS_FILE_PREFIX) || name.startsWith(GROUP_FILE_PREFIX))
+                        && name.endsWith(SHARD_FILE_SUFFIX);
+                if (isShard && !listed.contains(name)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a number greater than that of every shard listed by {@code manifest}.
+     */
+    private static int nextFileNumber(JsonShardManifest manifest) {
+        List<String> shardFiles = new ArrayList<>(manifest.getGroups());
+        shardFiles.add(manifest.getPersons());
+        int next = 1;
+        for (String shardFile : shardFiles) {
+            try {
+                int number = Integer.parseInt(shardFile.substring(shardFile.indexOf('-') + 1,
+                        shardFile.length() - SHARD_FILE_SUFFIX.length()));
+                next = Math.max(next, number + 1);
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                // Not a file name given by this storage, so it cannot clash with the names it gives.
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Reads the json data file and saves it as this storage's shards.
+     */
+    private Optional<ReadOnlyAddressBook> importFromJson() throws DataLoadingException {
+        if (jsonFilePath == null) {
+            return Optional.empty();
+        }
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (addressBook.isPresent()) {
+            try {
+                saveAddressBook(addressBook.get());
+                logger.info("Imported " + jsonFilePath + " into " + folderPath);
+            } catch (IOException e) {
+                logger.warning("Could not save imported data to " + folderPath + ": " + e);
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes the content of one shard.
+     */
+    @FunctionalInterface
+    private interface ShardWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * The file holding a group, and the version of the group that it holds.
+     */
+    private static class SavedShard {
+        private final String file;
+        private final long version;
+
+        SavedShard(String file, long version) {
+            this.file = file;
+            this.version = version;
+        }
+    }
+}
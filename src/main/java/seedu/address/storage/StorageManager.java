@@ -75,4 +75,14 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        addressBookStorage.flushAddressBook();
+    }
+
+    @Override
+    public boolean isAddressBookSaved() throws IOException {
+        return addressBookStorage.isAddressBookSaved();
+    }
+
 }
@@ -48,15 +48,11 @@ public class GroupDetailCard extends UiPart<Region> {
 
         StringBuilder attendanceSb = new StringBuilder();
         attendanceSb.append("Attendance: ");
-        var detailAttendance = detail.getAttendance();
-        boolean hasAttended = false;
-        for (int i = 0; i < detailAttendance.length; ++i) {
-            if (detailAttendance[i]) {
-                attendanceSb.append("W").append(i + 1).append(" ");
-                hasAttended = true;
-            }
+        // Visit only the weeks attended, lowest first
+        for (long weeks = detail.getAttendanceBits(); weeks != 0; weeks &= weeks - 1) {
+            attendanceSb.append("W").append(Long.numberOfTrailingZeros(weeks) + 1).append(" ");
         }
-        if (!hasAttended) {
+        if (detail.countAttendedWeeks() == 0) {
             attendanceSb.append("None");
         }
         attendance.setText(attendanceSb.toString());
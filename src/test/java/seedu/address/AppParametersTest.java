@@ -39,10 +39,38 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptAndCheckpoint_success() {
+        parametersStub.namedParameters.put("script", "setup.txt");
+        parametersStub.namedParameters.put("checkpoint", "50");
+        expected.setScriptPath(Paths.get("setup.txt"));
+        expected.setCheckpointInterval(50);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCheckpoint_savesOnlyAtEnd() {
+        parametersStub.namedParameters.put("script", "setup.txt");
+        parametersStub.namedParameters.put("checkpoint", "often");
+        expected.setScriptPath(Paths.get("setup.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("setup.txt"));
+        expected.setCheckpointInterval(10);
+        assertEquals(expected, AppParameters.parse(new String[] {
+            "--config=config.json", "--script=setup.txt", "--checkpoint=10", "unnamed", "--="}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", checkpointInterval=" + appParameters.getCheckpointInterval() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +94,16 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different checkpoint interval -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCheckpointInterval(1);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -80,4 +80,19 @@ public class ArrayListMapTest {
     public void containsKey_doesNotExist_success() {
         assertFalse(members.containsKey(p));
     }
+
+    @Test
+    public void remove_firstKey_keepsRemainingEntriesAligned() {
+        Person p2 = new PersonBuilder().withName("Other Person").build();
+        GroupMemberDetail detail2 = new GroupMemberDetail(p2, g);
+        members.put(p, detail);
+        members.put(p2, detail2);
+
+        GroupMemberDetail removed = members.remove(p);
+
+        assertEquals(detail, removed);
+        assertFalse(members.containsKey(p));
+        assertEquals(detail2, members.get(p2));
+        assertEquals(detail2, members.get(0));
+    }
 }
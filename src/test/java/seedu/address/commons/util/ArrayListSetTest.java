@@ -124,4 +124,36 @@ public class ArrayListSetTest {
         assertEquals(0, persons.size());
         assertTrue(persons.isEmpty());
     }
+
+    @Test
+    public void remove_middleElement_preservesOrderAndIndices() {
+        Person p = new PersonBuilder().build();
+        Person p2 = new PersonBuilder().withName("New name 1").build();
+        Person p3 = new PersonBuilder().withName("New name 2").build();
+        persons.add(p);
+        persons.add(p2);
+        persons.add(p3);
+
+        persons.remove(p2);
+
+        assertEquals(p, persons.get(0));
+        assertEquals(p3, persons.get(1));
+        assertEquals(1, persons.indexOf(p3));
+        assertEquals(-1, persons.indexOf(p2));
+    }
+
+    @Test
+    public void set_existingElement_keepsPosition() {
+        Person p = new PersonBuilder().build();
+        Person p2 = new PersonBuilder().withName("New name 1").build();
+        Person replacement = new PersonBuilder().withName("New name 2").build();
+        persons.add(p);
+        persons.add(p2);
+
+        persons.set(p, replacement);
+
+        assertFalse(persons.contains(p));
+        assertEquals(0, persons.indexOf(replacement));
+        assertEquals(1, persons.indexOf(p2));
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRow_plainAndQuotedFields() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b\r\n\"c, \"\"d\"\"\",\r\n\n\"e\nf\",g"));
+
+        assertEquals(List.of("a", "b"), reader.readRow());
+        assertEquals(1, reader.getRowLineNumber());
+        assertEquals(List.of("c, \"d\"", ""), reader.readRow());
+        assertEquals(2, reader.getRowLineNumber());
+        assertEquals(List.of(""), reader.readRow());
+        assertEquals(List.of("e\nf", "g"), reader.readRow());
+        assertEquals(4, reader.getRowLineNumber());
+        assertNull(reader.readRow());
+    }
+
+    @Test
+    public void readRow_unterminatedQuote_throwsIllegalValueException() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b\n\"c,d\n"));
+        reader.readRow();
+
+        assertThrows(IllegalValueException.class, String.format(CsvReader.MESSAGE_UNTERMINATED_QUOTE, 2),
+                reader::readRow);
+    }
+
+    @Test
+    public void readRow_textAfterClosingQuote_throwsIllegalValueException() {
+        CsvReader reader = new CsvReader(new StringReader("\"a\"b,c"));
+
+        assertThrows(IllegalValueException.class, String.format(CsvReader.MESSAGE_UNEXPECTED_QUOTE, 1),
+                reader::readRow);
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ScriptRunnerTest {
+
+    private static final String ADD_AMY =
+            AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB =
+            AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+    private final int[] saveCount = {0};
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ScriptRunner.MESSAGE_CHECKPOINT_INTERVAL_CONSTRAINTS, () ->
+                new ScriptRunner(logic, -1, out));
+    }
+
+    @Test
+    public void run_noCheckpoints_savesOnceAtEnd() throws Exception {
+        Path script = write("# set up the roster", ADD_AMY, "", ADD_BOB, ListCommand.COMMAND_WORD);
+
+        assertTrue(new ScriptRunner(logic, 0, out).run(script));
+
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount[0]);
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("[line 2] "));
+        assertTrue(report.contains("[line 4] "));
+        assertTrue(report.contains("Ran 3 command(s)"));
+        assertTrue(report.contains("including 1 save(s)"));
+        assertTrue(report.contains("Command latency: min"));
+    }
+
+    @Test
+    public void run_checkpointInterval_savesAtCheckpoints() throws Exception {
+        Path script = write(ADD_AMY, ListCommand.COMMAND_WORD, ADD_BOB);
+
+        assertTrue(new ScriptRunner(logic, 1, out).run(script));
+
+        // the list command changes nothing, and everything is saved by the last checkpoint
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void run_failingCommand_stopsAndKeepsEarlierCommands() throws Exception {
+        Path script = write(ADD_AMY, "delete 9", ADD_BOB);
+
+        assertFalse(new ScriptRunner(logic, 0, out).run(script));
+
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(1, saveCount[0]);
+        String report = output.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("[line 2] failed: "));
+        assertTrue(report.contains("Ran 1 command(s)"));
+    }
+
+    @Test
+    public void run_exitCommand_stopsRunning() throws Exception {
+        Path script = write(ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB);
+
+        assertTrue(new ScriptRunner(logic, 0, out).run(script));
+
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_afterwards_savesAfterEveryCommandAgain() throws Exception {
+        new ScriptRunner(logic, 0, out).run(write(ListCommand.COMMAND_WORD));
+        saveCount[0] = 0;
+
+        logic.execute(ADD_AMY);
+
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void run_missingScript_throwsIoException() {
+        assertThrows(IOException.class, () -> new ScriptRunner(logic, 0, out).run(temporaryFolder.resolve("none")));
+    }
+
+    private Path write(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines), StandardCharsets.UTF_8);
+        return script;
+    }
+}
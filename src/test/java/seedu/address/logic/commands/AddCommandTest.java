@@ -11,6 +11,9 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -127,6 +130,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -137,6 +145,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -244,12 +257,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public void markAttendance(Person person, Group group, int week) {
+        public void gradeAssignment(Map<Person, Float> scores, Group group, String assignmentName) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void unmarkAttendance(Person person, Group group, int week) {
+        public void markAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unmarkAttendance(Collection<Person> persons, Group group, int firstWeek, int lastWeek) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -268,6 +286,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called");
         }
 
+        @Override
+        public List<Group> getGroupsOfPerson(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isPersonInGroup(Person person, Group group) {
             return false;
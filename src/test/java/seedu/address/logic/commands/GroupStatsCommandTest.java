@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+
+public class GroupStatsCommandTest {
+
+    private Model model;
+    private Group group;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        group = new Group("CS2103T T12");
+        group.setWeeks(2);
+        addressBook.addGroup(group);
+        addressBook.addPersonToGroup(ALICE, group);
+        addressBook.addPersonToGroup(BENSON, group);
+        addressBook.addGroup(new Group("CS2101 T01"));
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_unknownGroup_throwsCommandException() {
+        assertCommandFailure(new GroupStatsCommand("CS9999 T99"), model, "Group not found!");
+    }
+
+    @Test
+    public void execute_noAssignments_showsAttendanceOnly() throws Exception {
+        model.markAttendance(List.of(ALICE), group, 1, 1);
+
+        CommandResult result = new GroupStatsCommand("CS2103T T12").execute(model);
+
+        assertEquals(String.format("Statistics for CS2103T T12 (2 members):\n\n"
+                + "Attendance:\n"
+                + "Week 1: 1/2 (%.1f%%)\n"
+                + "Week 2: 0/2 (%.1f%%)\n\n"
+                + "Assignments:\n"
+                + "No assignments\n", 50.0, 0.0), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noMembers_showsEmptyAttendance() throws Exception {
+        CommandResult result = new GroupStatsCommand("CS2101 T01").execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Statistics for CS2101 T01 (0 members):"));
+        assertTrue(result.getFeedbackToUser().contains("Week 1: 0/0\n"));
+        assertFalse(result.getFeedbackToUser().contains("%"));
+    }
+
+    @Test
+    public void execute_gradedAssignments_showsScoreStatistics() throws Exception {
+        group.addAssignment("HW 1", LocalDate.now().plusDays(7), 1f);
+        group.addAssignment("HW 2", LocalDate.now().plusDays(7), 1f);
+        model.gradeAssignment(ALICE, group, "HW 1", 6f);
+        model.gradeAssignment(BENSON, group, "HW 1", 8f);
+
+        String feedback = new GroupStatsCommand("CS2103T T12").execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format("HW 1: 2/2 graded, mean %.2f, median %.2f,", 7.0, 7.0)));
+        assertTrue(feedback.contains("HW 2: 0/2 graded\n"));
+        assertFalse(feedback.contains("No assignments"));
+    }
+
+    @Test
+    public void equals() {
+        GroupStatsCommand command = new GroupStatsCommand("CS2103T T12");
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new GroupStatsCommand("CS2103T T12")));
+        assertFalse(command.equals(new GroupStatsCommand("CS2101 T01")));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+
+public class ImportGradesCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Group group;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        group = new Group("CS2103T T12");
+        group.addAssignment("HW 1", LocalDate.now().plusDays(7), 1f);
+        group.addAssignment("HW 2", LocalDate.now().minusDays(7), 0.5f);
+        addressBook.addGroup(group);
+        addressBook.addPersonToGroup(ALICE, group);
+        addressBook.addPersonToGroup(BENSON, group);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_validFile_gradesEveryRow() throws Exception {
+        Path file = write("name,score\n" + ALICE.getName() + ",7.5\n\n\"" + BENSON.getName() + "\", 9\n");
+
+        CommandResult result = new ImportGradesCommand("CS2103T T12", "HW 1", file).execute(model);
+
+        assertEquals(String.format(ImportGradesCommand.MESSAGE_IMPORT_GRADES_SUCCESS, 2, "HW 1", "CS2103T T12"),
+                result.getFeedbackToUser());
+        assertEquals(7.5f, model.getGrade(ALICE, group, "HW 1"));
+        assertEquals(9f, model.getGrade(BENSON, group, "HW 1"));
+    }
+
+    @Test
+    public void execute_lateAssignment_penaltyApplied() throws Exception {
+        Path file = write(ALICE.getName() + ",8\n");
+
+        new ImportGradesCommand("CS2103T T12", "HW 2", file).execute(model);
+
+        assertEquals(4f, model.getGrade(ALICE, group, "HW 2"));
+    }
+
+    @Test
+    public void execute_invalidRow_gradesNothing() throws Exception {
+        Path notMember = write(ALICE.getName() + ",8\n" + CARL.getName() + ",9\n");
+        Path badScore = write(ALICE.getName() + ",eight\n");
+        Path duplicate = write(ALICE.getName() + ",8\n" + ALICE.getName() + ",9\n");
+        Path extraField = write(ALICE.getName() + ",8,9\n");
+
+        assertThrows(CommandException.class, String.format(ImportGradesCommand.MESSAGE_NOT_A_MEMBER, 2,
+                CARL.getName()), () -> new ImportGradesCommand("CS2103T T12", "HW 1", notMember).execute(model));
+        assertThrows(CommandException.class, String.format(ImportGradesCommand.MESSAGE_INVALID_SCORE, 1, "eight"), ()
+            -> new ImportGradesCommand("CS2103T T12", "HW 1", badScore).execute(model));
+        assertThrows(CommandException.class, String.format(ImportGradesCommand.MESSAGE_DUPLICATE_MEMBER, 2,
+                ALICE.getName()), () -> new ImportGradesCommand("CS2103T T12", "HW 1", duplicate).execute(model));
+        assertThrows(CommandException.class, String.format(ImportGradesCommand.MESSAGE_INVALID_ROW, 1), ()
+            -> new ImportGradesCommand("CS2103T T12", "HW 1", extraField).execute(model));
+
+        assertNull(model.getGrade(ALICE, group, "HW 1"));
+    }
+
+    @Test
+    public void execute_missingAssignmentOrFile_throwsCommandException() {
+        assertThrows(CommandException.class, ImportGradesCommand.MESSAGE_ASSIGNMENT_NOT_FOUND, ()
+            -> new ImportGradesCommand("CS2103T T12", "HW 3", testFolder.resolve("a.csv")).execute(model));
+        assertThrows(CommandException.class, ()
+            -> new ImportGradesCommand("CS2103T T12", "HW 1", testFolder.resolve("missing.csv")).execute(model));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(testFolder, "grades", ".csv"), content);
+    }
+}
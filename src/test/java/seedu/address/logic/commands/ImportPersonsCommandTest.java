@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ImportPersonsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newPersons_addedAfterExistingPersons() throws Exception {
+        int size = model.getFilteredPersonList().size();
+        Path file = write("Amy Bee,11111111,amy@example.com,Amy Street\n"
+                + "Bob Choo,22222222,bob@example.com,Bob Street\n");
+
+        CommandResult result = new ImportPersonsCommand(file).execute(model);
+
+        assertEquals(String.format(ImportPersonsCommand.MESSAGE_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(size + 2, model.getFilteredPersonList().size());
+        assertEquals("Bob Choo", model.getFilteredPersonList().get(size + 1).getName().fullName);
+    }
+
+    @Test
+    public void execute_duplicatePersons_addsNobody() throws Exception {
+        int size = model.getFilteredPersonList().size();
+        Path existing = write("Amy Bee,11111111,amy@example.com,Amy Street\n"
+                + ALICE.getName() + ",11111111,alice@example.com,Alice Street\n");
+        Path repeated = write("Amy Bee,11111111,amy@example.com,Amy Street\n\n"
+                + "Amy Bee,22222222,amy@example.com,Amy Street\n");
+
+        assertThrows(CommandException.class, String.format(ImportPersonsCommand.MESSAGE_DUPLICATE_PERSON, 2,
+                ALICE.getName()), () -> new ImportPersonsCommand(existing).execute(model));
+        assertThrows(CommandException.class, String.format(ImportPersonsCommand.MESSAGE_DUPLICATE_ROW, 3, "Amy Bee",
+                1), () -> new ImportPersonsCommand(repeated).execute(model));
+
+        assertEquals(size, model.getFilteredPersonList().size());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(testFolder, "persons", ".csv"), content);
+    }
+}
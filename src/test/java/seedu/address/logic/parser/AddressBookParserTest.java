@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -20,8 +23,10 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.GroupStatsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -88,6 +93,27 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_groupStats() throws Exception {
+        GroupStatsCommand command = (GroupStatsCommand) parser.parseCommand(
+                GroupStatsCommand.COMMAND_WORD + " " + PREFIX_GROUP + "CS2103T T12");
+        assertEquals(new GroupStatsCommand("CS2103T T12"), command);
+        assertThrows(ParseException.class, () -> parser.parseCommand(GroupStatsCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_markAttendance() throws Exception {
+        assertEquals(new MarkAttendanceCommand("Amy Bee", "CS2103T T12", 3),
+                parser.parseCommand(MarkAttendanceCommand.COMMAND_WORD + " " + PREFIX_PERSON + "Amy Bee "
+                        + PREFIX_GROUP + "CS2103T T12 " + PREFIX_WEEK + "3"));
+        assertEquals(new MarkAttendanceCommand(List.of("Amy Bee", "Bob Choo"), "CS2103T T12", 3, 5),
+                parser.parseCommand(MarkAttendanceCommand.COMMAND_WORD + " " + PREFIX_PERSON + "Amy Bee "
+                        + PREFIX_PERSON + "Bob Choo " + PREFIX_GROUP + "CS2103T T12 " + PREFIX_WEEK + "3-5"));
+        assertEquals(new MarkAttendanceCommand(List.of(), "CS2103T T12", 1, 13),
+                parser.parseCommand(MarkAttendanceCommand.COMMAND_WORD + " " + PREFIX_GROUP + "CS2103T T12 "
+                        + PREFIX_WEEK + "1-13"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
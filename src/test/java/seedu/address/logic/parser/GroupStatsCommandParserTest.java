@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.GroupStatsCommand;
+
+public class GroupStatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupStatsCommand.MESSAGE_USAGE);
+
+    private final GroupStatsCommandParser parser = new GroupStatsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGroupStatsCommand() {
+        assertParseSuccess(parser, " " + PREFIX_GROUP + " CS2103T T12 ", new GroupStatsCommand("CS2103T T12"));
+    }
+
+    @Test
+    public void parse_missingGroup_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " CS2103T T12", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_throwsParseException() {
+        assertParseFailure(parser, " extra " + PREFIX_GROUP + "CS2103T T12", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_duplicateGroup_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_GROUP + "CS2103T T12 " + PREFIX_GROUP + "CS2101 T01",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_GROUP));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
@@ -216,4 +217,47 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseWeeks_validValueWithWhitespace_returnsWeeks() throws Exception {
+        assertEquals(6, ParserUtil.parseWeeks(WHITESPACE + "6" + WHITESPACE));
+        assertEquals(64, ParserUtil.parseWeeks("64"));
+    }
+
+    @Test
+    public void parseWeeks_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeeks("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeeks("65"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeeks("six"));
+    }
+
+    @Test
+    public void parseScore_validValue_returnsScore() throws Exception {
+        assertEquals(7.5f, ParserUtil.parseScore(WHITESPACE + "7.5" + WHITESPACE));
+        assertEquals(-1f, ParserUtil.parseScore("-1"));
+    }
+
+    @Test
+    public void parseScore_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_SCORE, () -> ParserUtil.parseScore("NaN"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_SCORE, () -> ParserUtil.parseScore("Infinity"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_SCORE, () -> ParserUtil.parseScore("1e39"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_SCORE, () -> ParserUtil.parseScore("ten"));
+    }
+
+    @Test
+    public void parseWeekRange_validValue_returnsFirstAndLastWeek() throws Exception {
+        assertArrayEquals(new int[] {3, 3}, ParserUtil.parseWeekRange(WHITESPACE + "3" + WHITESPACE));
+        assertArrayEquals(new int[] {3, 5}, ParserUtil.parseWeekRange("3 - 5"));
+        assertArrayEquals(new int[] {1, 64}, ParserUtil.parseWeekRange("1-64"));
+    }
+
+    @Test
+    public void parseWeekRange_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeekRange("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeekRange("5-3"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeekRange("3-"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeekRange("1-2-3"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseWeekRange("three"));
+    }
 }
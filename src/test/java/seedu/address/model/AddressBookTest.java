@@ -21,6 +21,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -79,6 +80,67 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPerson_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(ALICE, addressBook.getPerson(ALICE.getName().fullName));
+    }
+
+    @Test
+    public void getPerson_invalidName_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> addressBook.getPerson(" "));
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsIdOfTargetInListAndGroups() {
+        addressBook.addPerson(ALICE);
+        Group group = new Group("CS2103T T12");
+        addressBook.addGroup(group);
+        addressBook.addPersonToGroup(ALICE, group);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        assertEquals(ALICE.getId(), addressBook.getPerson("Alice Tan").getId());
+        assertEquals(addressBook.getPerson("Alice Tan"), addressBook.getPerson(ALICE.getId()));
+        assertEquals(ALICE.getId(), group.get(0).getId());
+    }
+
+    @Test
+    public void getGroupsOfPerson_membersChangedInCopy_tracksMemberships() {
+        addressBook.addPerson(ALICE);
+        Group group = new Group("CS2103T T12");
+        addressBook.addGroup(group);
+        addressBook.addPersonToGroup(ALICE, group);
+        // A copy shares its groups with the original, as the model's copy of a loaded address book does
+        AddressBook copy = new AddressBook(addressBook);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+
+        copy.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of(group), copy.getGroupsOfPerson(renamedAlice));
+
+        copy.deletePersonFromAllGroups(renamedAlice);
+        assertTrue(copy.getGroupsOfPerson(renamedAlice).isEmpty());
+        assertFalse(group.contains(renamedAlice));
+    }
+
+    @Test
+    public void getVersion_changesOnlyWhenDataIsModified() {
+        long initial = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initial, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getVersion();
+        assertTrue(afterAdd > initial);
+
+        addressBook.getPerson(ALICE.getName().fullName);
+        assertEquals(afterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > afterAdd);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
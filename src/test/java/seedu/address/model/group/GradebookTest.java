@@ -0,0 +1,120 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.assignment.Assignment;
+
+public class GradebookTest {
+    private static final LocalDate DEADLINE = LocalDate.of(2024, 4, 1);
+
+    private final Gradebook gradebook = new Gradebook();
+    private final Assignment lab1 = new Assignment("Lab 1", DEADLINE, 1f);
+    private final Assignment lab2 = new Assignment("Lab 2", DEADLINE, 1f);
+
+    @Test
+    public void getAverage_skipsUngradedMembers() {
+        int first = gradebook.addMember();
+        gradebook.addMember();
+        int third = gradebook.addMember();
+        gradebook.setScore(first, lab1, 4f);
+        gradebook.setScore(third, lab1, 8f);
+
+        assertEquals(6.0, gradebook.getAverage(lab1));
+        assertEquals(2, gradebook.countGraded(lab1));
+        assertTrue(Double.isNaN(gradebook.getAverage(lab2)));
+        assertEquals(0, gradebook.countGraded(lab2));
+    }
+
+    @Test
+    public void getMedianAndPercentile_followScoreChanges() {
+        for (float score : new float[] {9f, 1f, 5f, 3f}) {
+            gradebook.setScore(gradebook.addMember(), lab1, score);
+        }
+
+        assertEquals(4.0, gradebook.getMedian(lab1));
+        assertEquals(1.0, gradebook.getPercentile(lab1, 0));
+        assertEquals(1.0, gradebook.getPercentile(lab1, 25));
+        assertEquals(5.0, gradebook.getPercentile(lab1, 75));
+        assertEquals(9.0, gradebook.getPercentile(lab1, 100));
+
+        // Regrading the member who scored 9 and removing the one who scored 1
+        gradebook.setScore(0, lab1, 4f);
+        gradebook.removeMember(1);
+
+        assertEquals(4.0, gradebook.getMedian(lab1));
+        assertEquals(4.0, gradebook.getAverage(lab1));
+        assertEquals(3, gradebook.countGraded(lab1));
+        assertTrue(Double.isNaN(gradebook.getMedian(lab2)));
+        assertThrows(IllegalArgumentException.class, () -> gradebook.getPercentile(lab1, 101));
+    }
+
+    @Test
+    public void addMember_beyondCapacity_keepsScores() {
+        for (int i = 0; i < 100; i++) {
+            gradebook.setScore(gradebook.addMember(), lab1, (float) i);
+        }
+
+        assertEquals(99f, gradebook.getScore(99, lab1));
+        assertEquals(49.5, gradebook.getAverage(lab1));
+    }
+
+    @Test
+    public void removeMember_slotReusedUngraded() {
+        int slot = gradebook.addMember();
+        gradebook.setScore(slot, lab1, 5f);
+        gradebook.removeMember(slot);
+
+        assertEquals(slot, gradebook.addMember());
+        assertNull(gradebook.getScore(slot, lab1));
+        assertTrue(gradebook.getScores(slot).isEmpty());
+    }
+
+    @Test
+    public void removeAssignment_forgetsScores() {
+        int slot = gradebook.addMember();
+        gradebook.setScore(slot, lab1, 5f);
+        gradebook.setScore(slot, lab2, 7f);
+        gradebook.removeAssignment(lab1);
+
+        assertNull(gradebook.getScore(slot, lab1));
+        assertEquals(List.of(lab2), gradebook.getScores(slot).keySet().stream().toList());
+
+        // The freed column is taken by the next assignment, which starts ungraded
+        Assignment lab3 = new Assignment("Lab 3", DEADLINE, 1f);
+        gradebook.setScore(gradebook.addMember(), lab3, 1f);
+        assertNull(gradebook.getScore(slot, lab3));
+    }
+
+    @Test
+    public void setScore_null_clearsScore() {
+        int slot = gradebook.addMember();
+        gradebook.setScore(slot, lab1, 5f);
+        gradebook.setScore(slot, lab1, null);
+
+        assertNull(gradebook.getScore(slot, lab1));
+        assertEquals(0, gradebook.countGraded(lab1));
+    }
+
+    @Test
+    public void setScore_nonFiniteScore_throwsIllegalArgumentException() {
+        int slot = gradebook.addMember();
+        gradebook.setScore(slot, lab1, 5f);
+
+        assertThrows(IllegalArgumentException.class, Gradebook.MESSAGE_SCORE_CONSTRAINTS, () ->
+                gradebook.setScore(slot, lab1, Float.NaN));
+        assertThrows(IllegalArgumentException.class, Gradebook.MESSAGE_SCORE_CONSTRAINTS, () ->
+                gradebook.setScore(slot, lab1, Float.POSITIVE_INFINITY));
+
+        // the statistics are unaffected
+        assertEquals(1, gradebook.countGraded(lab1));
+        assertEquals(5.0, gradebook.getAverage(lab1));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.ArrayListMap;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.group.GroupMemberDetail.Role;
+import seedu.address.testutil.GroupBuilder;
+
+public class GroupStatisticsTest {
+    private static final LocalDate DEADLINE = LocalDate.of(2024, 4, 1);
+
+    private final Group group = new GroupBuilder().withName("CS2103T T12").build();
+
+    @Test
+    public void attendance_followsMarkingAndMembers() {
+        group.add(ALICE);
+        group.add(BENSON);
+        group.markAttendance(ALICE, 1);
+        group.markAttendance(BENSON, 1);
+        group.markAttendance(ALICE, 1);
+        group.markAttendance(ALICE, 2);
+
+        GroupStatistics statistics = group.getStatistics();
+        assertEquals(2, statistics.getMemberCount());
+        assertEquals(2, statistics.countAttended(1));
+        assertEquals(0.5, statistics.getAttendanceRate(2));
+
+        group.unmarkAttendance(BENSON, 1);
+        group.remove(ALICE);
+
+        assertEquals(1, statistics.getMemberCount());
+        assertEquals(0, statistics.countAttended(1));
+        assertEquals(0, statistics.countAttended(2));
+        assertEquals(0.0, statistics.getAttendanceRate(1));
+    }
+
+    @Test
+    public void attendance_setWeeks_forgetsLaterWeeks() {
+        group.add(ALICE);
+        group.markAttendance(ALICE, 13);
+
+        group.setWeeks(10);
+
+        assertEquals(0, group.getStatistics().countAttended(13));
+    }
+
+    @Test
+    public void statistics_followMemberReplacementAndEditedGroup() {
+        group.add(ALICE);
+        group.addAssignment("Lab 1", DEADLINE, 1f);
+        group.markAttendance(ALICE, 3);
+        group.gradeAssignment(ALICE, "Lab 1", 6f);
+
+        group.setGroupMember(ALICE, CARL);
+        Group edited = group.createEditedGroup("CS2103T T13", null);
+
+        GroupStatistics statistics = edited.getStatistics();
+        Assignment editedLab = edited.getAssignment("Lab 1");
+        assertEquals(1, statistics.getMemberCount());
+        assertEquals(1, statistics.countAttended(3));
+        assertEquals(6.0, statistics.getAverage(editedLab));
+        assertEquals(6.0, statistics.getMedian(editedLab));
+    }
+
+    @Test
+    public void statistics_detailsPending_countedWhenLoaded() {
+        Group lazy = Group.ofTrusted("CS2103T T12", List.of(ALICE, BENSON), null, null, assignments ->
+                Map.of(ALICE, new GroupMemberDetail(ALICE, Role.Student, 0b101, new ArrayListMap<>())));
+
+        GroupStatistics statistics = lazy.getStatistics();
+
+        assertEquals(2, statistics.getMemberCount());
+        assertEquals(1, statistics.countAttended(1));
+        assertEquals(1, statistics.countAttended(3));
+        assertEquals(0, statistics.countAttended(2));
+    }
+
+    @Test
+    public void statistics_emptyGroup_noRates() {
+        assertEquals(0, group.getStatistics().getMemberCount());
+        assertTrue(Double.isNaN(group.getStatistics().getAttendanceRate(1)));
+    }
+}
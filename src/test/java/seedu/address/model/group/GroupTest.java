@@ -0,0 +1,259 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.ArrayListMap;
+import seedu.address.model.assignment.Assignment;
+import seedu.address.model.assignment.exceptions.AssignmentNotFoundException;
+import seedu.address.model.assignment.exceptions.DuplicateAssignmentException;
+import seedu.address.model.group.GroupMemberDetail.Role;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.GroupBuilder;
+
+public class GroupTest {
+    private static final LocalDate DEADLINE = LocalDate.of(2024, 4, 1);
+
+    private final Group group = new GroupBuilder().withName("CS2103T T12").build();
+
+    @Test
+    public void addAssignment_duplicateName_throwsDuplicateAssignmentException() {
+        group.addAssignment("Lab 1", DEADLINE, 0f);
+        assertThrows(DuplicateAssignmentException.class, () -> group.addAssignment("Lab 1", DEADLINE, 0f));
+    }
+
+    @Test
+    public void getAssignments_keepsInsertionOrder() {
+        Assignment first = group.addAssignment("Lab 1", DEADLINE, 0f);
+        Assignment second = group.addAssignment("Lab 2", DEADLINE, 0f);
+        Assignment third = group.addAssignment("Lab 3", DEADLINE, 0f);
+
+        group.removeAssignment("Lab 2");
+
+        assertEquals(List.of(first, third), group.getAssignments());
+        assertThrows(AssignmentNotFoundException.class, () -> group.getAssignment("Lab 2"));
+        assertSame(third, group.getAssignment("Lab 3"));
+        assertFalse(group.getAssignments().contains(second));
+    }
+
+    @Test
+    public void editAssignment_rename_updatesLookup() {
+        Assignment assignment = group.addAssignment("Lab 1", DEADLINE, 0f);
+
+        group.editAssignment("Lab 1", "Lab One", null, null);
+
+        assertSame(assignment, group.getAssignment("Lab One"));
+        assertEquals("Lab One", assignment.getName());
+        assertTrue(group.containsAssignment("Lab One"));
+        assertFalse(group.containsAssignment("Lab 1"));
+    }
+
+    @Test
+    public void editAssignment_existingName_throwsDuplicateAssignmentException() {
+        group.addAssignment("Lab 1", DEADLINE, 0f);
+        group.addAssignment("Lab 2", DEADLINE, 0f);
+
+        assertThrows(DuplicateAssignmentException.class, () -> group.editAssignment("Lab 1", "Lab 2", null, null));
+        assertTrue(group.containsAssignment("Lab 1"));
+    }
+
+    @Test
+    public void editAssignment_missingAssignment_throwsAssignmentNotFoundException() {
+        assertThrows(AssignmentNotFoundException.class, () -> group.editAssignment("Lab 1", "Lab 2", null, null));
+    }
+
+    @Test
+    public void createEditedGroup_keepsAssignments() {
+        Assignment assignment = group.addAssignment("Lab 1", DEADLINE, 0f);
+
+        Group edited = group.createEditedGroup("CS2103T T13", null);
+        edited.editAssignment("Lab 1", "Lab 2", null, null);
+
+        assertEquals("Lab 1", assignment.getName());
+        assertSame(assignment, group.getAssignment("Lab 1"));
+        assertEquals("Lab 2", edited.getAssignment("Lab 2").getName());
+    }
+
+    @Test
+    public void ofTrusted_detailLoader_calledOnceWhenDetailsFirstNeeded() {
+        AtomicInteger loads = new AtomicInteger();
+        Group lazy = Group.ofTrusted("CS2103T T12", List.of(ALICE, BENSON), null, null, assignments -> {
+            loads.incrementAndGet();
+            return Map.of(ALICE, new GroupMemberDetail(ALICE, Role.TeachingAssistant, 0,
+                    new ArrayListMap<>()));
+        });
+
+        assertTrue(lazy.contains(ALICE));
+        assertEquals(BENSON, lazy.get(1));
+        assertEquals(2, lazy.size());
+        assertEquals(0, loads.get());
+
+        lazy.add(CARL);
+        lazy.remove(BENSON);
+        assertEquals(0, loads.get());
+
+        assertEquals(Role.TeachingAssistant, lazy.getGroupMemberDetail(ALICE).getRole());
+        assertSame(lazy, lazy.getGroupMemberDetail(ALICE).getGroup());
+        assertEquals(Role.Student, lazy.getGroupMemberDetail(CARL).getRole());
+        assertEquals(List.of(ALICE, CARL), lazy.getGroupMembers());
+        lazy.getGroupDetails();
+        assertEquals(1, loads.get());
+        assertFalse(lazy.isMemberDetailsPending());
+    }
+
+    @Test
+    public void markAttendance_weeksOfGroup_countedAndShrinkingForgetsLaterWeeks() {
+        Group group = new GroupBuilder().build();
+        group.add(ALICE);
+        group.setWeeks(20);
+        group.markAttendance(ALICE, 1);
+        group.markAttendance(ALICE, 20);
+        GroupMemberDetail detail = group.getGroupMemberDetail(ALICE);
+        assertEquals(2, detail.countAttendedWeeks());
+        assertEquals(20, detail.getAttendance().length);
+        assertTrue(detail.getAttendance()[19]);
+        assertThrows(IllegalArgumentException.class, () -> group.markAttendance(ALICE, 21));
+
+        group.setWeeks(10);
+
+        assertEquals(1, detail.countAttendedWeeks());
+        assertFalse(detail.hasAttended(20));
+        assertFalse(group.isValidWeek(11));
+        assertThrows(IllegalArgumentException.class, () -> group.setWeeks(GroupMemberDetail.MAX_WEEKS + 1));
+    }
+
+    @Test
+    public void setWeeks_detailsPending_laterWeeksForgottenWhenLoaded() {
+        Group lazy = Group.ofTrusted("CS2103T T12", List.of(ALICE), null, null, assignments -> Map.of(ALICE,
+                new GroupMemberDetail(ALICE, Role.Student, 0b1001, new ArrayListMap<>())));
+
+        lazy.setWeeks(3);
+
+        assertTrue(lazy.isMemberDetailsPending());
+        assertEquals(0b0001, lazy.getGroupMemberDetail(ALICE).getAttendanceBits());
+    }
+
+    @Test
+    public void deepCopy_detailsPending_copyLoadsItsOwnDetails() {
+        Group lazy = Group.ofTrusted("CS2103T T12", List.of(ALICE), null,
+                List.of(new Assignment("Lab 1", DEADLINE, 0f)), assignments -> {
+                    ArrayListMap<Assignment, Float> grades = new ArrayListMap<>();
+                    grades.put(assignments.get("Lab 1"), 5f);
+                    return Map.of(ALICE, new GroupMemberDetail(ALICE, Role.Student, 0, grades));
+                });
+
+        Group copy = lazy.deepCopy();
+        assertTrue(copy.isMemberDetailsPending());
+        copy.markAttendance(ALICE, 1);
+
+        assertTrue(lazy.isMemberDetailsPending());
+        assertFalse(lazy.getGroupMemberDetail(ALICE).getAttendance()[0]);
+        assertSame(copy, copy.getGroupMemberDetail(ALICE).getGroup());
+        assertEquals(5f, copy.getGroupMemberDetail(ALICE).getAssignmentGrade(copy.getAssignment("Lab 1")));
+        assertEquals(5f, lazy.getGroupMemberDetail(ALICE).getAssignmentGrade(lazy.getAssignment("Lab 1")));
+    }
+
+    @Test
+    public void editAssignment_detailsPending_gradesKeptUnderNewName() {
+        Group lazy = Group.ofTrusted("CS2103T T12", List.of(ALICE), null,
+                List.of(new Assignment("Lab 1", DEADLINE, 0f)), assignments -> {
+                    ArrayListMap<Assignment, Float> grades = new ArrayListMap<>();
+                    grades.put(assignments.get("Lab 1"), 5f);
+                    return Map.of(ALICE, new GroupMemberDetail(ALICE, Role.Student, 0, grades));
+                });
+
+        lazy.editAssignment("Lab 1", "Lab 2", null, null);
+
+        assertEquals(5f, lazy.getGroupMemberDetail(ALICE).getAssignmentGrade(lazy.getAssignment("Lab 2")));
+    }
+
+    @Test
+    public void setGroupMember_keepsGrades() {
+        group.add(ALICE);
+        group.addAssignment("Lab 1", DEADLINE, 1f);
+        group.gradeAssignment(ALICE, "Lab 1", 7f);
+
+        group.setGroupMember(ALICE, BENSON);
+
+        assertEquals(7f, group.getGroupMemberDetail(BENSON).getAssignmentGrade(group.getAssignment("Lab 1")));
+        assertEquals(7.0, group.getGradebook().getAverage(group.getAssignment("Lab 1")));
+        assertEquals(1, group.getGradebook().countGraded(group.getAssignment("Lab 1")));
+    }
+
+    @Test
+    public void createEditedGroup_keepsGrades() {
+        group.add(ALICE);
+        group.addAssignment("Lab 1", DEADLINE, 1f);
+        group.gradeAssignment(ALICE, "Lab 1", 7f);
+
+        Group edited = group.createEditedGroup("CS2103T T13", null);
+        edited.gradeAssignment(ALICE, "Lab 1", 9f);
+
+        assertSame(edited, edited.getGroupMemberDetail(ALICE).getGroup());
+        assertEquals(9f, edited.getGroupMemberDetail(ALICE).getAssignmentGrade(edited.getAssignment("Lab 1")));
+        assertEquals(9.0, edited.getGradebook().getAverage(edited.getAssignment("Lab 1")));
+
+        // the original group is left unchanged
+        assertSame(group, group.getGroupMemberDetail(ALICE).getGroup());
+        assertEquals(7f, group.getGroupMemberDetail(ALICE).getAssignmentGrade(group.getAssignment("Lab 1")));
+        assertEquals(7.0, group.getGradebook().getAverage(group.getAssignment("Lab 1")));
+    }
+
+    @Test
+    public void remove_memberAddedBackIsUngraded() {
+        group.add(ALICE);
+        group.add(BENSON);
+        Assignment lab = group.addAssignment("Lab 1", DEADLINE, 1f);
+        group.gradeAssignment(ALICE, "Lab 1", 4f);
+        group.gradeAssignment(BENSON, "Lab 1", 8f);
+
+        group.remove(ALICE);
+        assertEquals(8.0, group.getGradebook().getAverage(lab));
+
+        group.add(ALICE);
+        assertNull(group.getGroupMemberDetail(ALICE).getAssignmentGrade(lab));
+        assertEquals(1, group.getGradebook().countGraded(lab));
+    }
+
+    @Test
+    public void markAttendance_severalMembersAndWeeks_markedTogether() {
+        group.add(ALICE);
+        group.add(BENSON);
+        group.setWeeks(GroupMemberDetail.MAX_WEEKS);
+        long version = group.getVersion();
+
+        group.markAttendance(group.getGroupMembers(), 60, GroupMemberDetail.MAX_WEEKS);
+        group.unmarkAttendance(List.of(BENSON), 61, 63);
+
+        assertEquals(5, group.getGroupMemberDetail(ALICE).countAttendedWeeks());
+        assertTrue(group.getGroupMemberDetail(BENSON).hasAttended(60));
+        assertFalse(group.getGroupMemberDetail(BENSON).hasAttended(62));
+        assertTrue(group.getGroupMemberDetail(BENSON).hasAttended(GroupMemberDetail.MAX_WEEKS));
+        assertEquals(2, group.getStatistics().countAttended(60));
+        assertTrue(group.getVersion() > version);
+    }
+
+    @Test
+    public void markAttendance_nonMember_marksNobody() {
+        group.add(ALICE);
+
+        assertThrows(PersonNotFoundException.class, () -> group.markAttendance(List.of(ALICE, BENSON), 1, 3));
+        assertThrows(IllegalArgumentException.class, () -> group.markAttendance(List.of(ALICE), 3, 2));
+
+        assertEquals(0, group.getGroupMemberDetail(ALICE).countAttendedWeeks());
+    }
+}
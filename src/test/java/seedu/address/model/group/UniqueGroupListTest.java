@@ -0,0 +1,122 @@
+package seedu.address.model.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.group.exceptions.DuplicateGroupsException;
+import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.testutil.GroupBuilder;
+
+public class UniqueGroupListTest {
+
+    private final UniqueGroupList uniqueGroupList = new UniqueGroupList();
+    private final Group tutorial = new GroupBuilder().withName("CS2103T T12").build();
+    private final Group lab = new GroupBuilder().withName("CS2103T L01").build();
+
+    @Test
+    public void getGroup_existingName_returnsGroup() {
+        uniqueGroupList.add(tutorial);
+        assertEquals(tutorial, uniqueGroupList.getGroup("CS2103T T12"));
+    }
+
+    @Test
+    public void getGroup_missingName_throwsGroupNotFoundException() {
+        assertThrows(GroupNotFoundException.class, () -> uniqueGroupList.getGroup("CS2103T T12"));
+    }
+
+    @Test
+    public void setGroup_renamedCopy_updatesIndex() {
+        uniqueGroupList.add(tutorial);
+        Group renamed = tutorial.createEditedGroup("CS2103T T13", tutorial.getTags());
+
+        uniqueGroupList.setGroup(tutorial, renamed);
+
+        assertEquals(renamed, uniqueGroupList.getGroup("CS2103T T13"));
+        assertFalse(uniqueGroupList.contains(tutorial));
+    }
+
+    @Test
+    public void setGroup_renamedToNameOfRemovedGroup_success() {
+        uniqueGroupList.add(tutorial);
+        uniqueGroupList.add(lab);
+        uniqueGroupList.remove(lab);
+        Group renamed = tutorial.createEditedGroup("CS2103T L01", tutorial.getTags());
+
+        uniqueGroupList.setGroup(tutorial, renamed);
+
+        assertEquals(renamed, uniqueGroupList.getGroup("CS2103T L01"));
+        assertThrows(GroupNotFoundException.class, () -> uniqueGroupList.getGroup("CS2103T T12"));
+    }
+
+    @Test
+    public void setGroup_nameTakenInList_throwsDuplicateGroupsException() {
+        uniqueGroupList.add(tutorial);
+        uniqueGroupList.add(lab);
+        Group renamed = new GroupBuilder().withName("CS2103T L01").build();
+
+        assertThrows(DuplicateGroupsException.class, () -> uniqueGroupList.setGroup(tutorial, renamed));
+        assertEquals(tutorial, uniqueGroupList.getGroup("CS2103T T12"));
+    }
+
+    @Test
+    public void remove_existingGroup_removesFromIndex() {
+        uniqueGroupList.add(tutorial);
+        uniqueGroupList.remove(tutorial);
+
+        assertFalse(uniqueGroupList.contains(tutorial));
+        assertThrows(GroupNotFoundException.class, () -> uniqueGroupList.getGroup("CS2103T T12"));
+    }
+
+    @Test
+    public void setGroups_listWithDuplicateGroups_throwsDuplicateGroupsException() {
+        Group copy = new GroupBuilder().withName("CS2103T T12").build();
+        assertThrows(DuplicateGroupsException.class, () -> uniqueGroupList.setGroups(Arrays.asList(tutorial, copy)));
+    }
+
+    @Test
+    public void getGroupsOf_membersChangedThroughList_tracksMemberships() {
+        uniqueGroupList.add(tutorial);
+        uniqueGroupList.add(lab);
+
+        uniqueGroupList.addMember(tutorial, ALICE);
+        uniqueGroupList.addMember(lab, ALICE);
+        assertEquals(List.of(tutorial, lab), uniqueGroupList.getGroupsOf(ALICE));
+
+        uniqueGroupList.removeMember(tutorial, ALICE);
+        assertEquals(List.of(lab), uniqueGroupList.getGroupsOf(ALICE));
+
+        uniqueGroupList.setMember(lab, ALICE, BOB);
+        assertTrue(uniqueGroupList.getGroupsOf(ALICE).isEmpty());
+        assertEquals(List.of(lab), uniqueGroupList.getGroupsOf(BOB));
+    }
+
+    @Test
+    public void addMember_groupNotInList_throwsGroupNotFoundException() {
+        uniqueGroupList.add(tutorial);
+        Group sameName = new GroupBuilder().withName("CS2103T T12").build();
+
+        assertThrows(GroupNotFoundException.class, () -> uniqueGroupList.addMember(sameName, ALICE));
+        assertThrows(GroupNotFoundException.class, () -> uniqueGroupList.addMember(lab, ALICE));
+        assertFalse(lab.contains(ALICE));
+    }
+
+    @Test
+    public void getGroupsOf_groupWithMembersAddedAndRemoved_tracksMemberships() {
+        Group withMembers = new Group("CS2103T T01", List.of(ALICE, BOB));
+
+        uniqueGroupList.add(withMembers);
+        assertEquals(List.of(withMembers), uniqueGroupList.getGroupsOf(BOB));
+
+        uniqueGroupList.remove(withMembers);
+        assertTrue(uniqueGroupList.getGroupsOf(BOB).isEmpty());
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +16,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,6 +164,27 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPerson_existingName_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPerson(ALICE.getName()));
+    }
+
+    @Test
+    public void getPerson_afterRename_resolvesNewNameOnly() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getName()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPerson(ALICE.getName()));
+    }
+
+    @Test
+    public void getPerson_removedPerson_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getPerson(ALICE.getName()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +195,28 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void addAll_uniquePersons_addedInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] changes = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) c -> changes[0]++);
+
+        uniquePersonList.addAll(List.of(BOB, CARL));
+
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes[0]);
+        assertEquals(CARL, uniquePersonList.getPerson(CARL.getName()));
+        assertEquals(BOB, uniquePersonList.getPerson(BOB.getId()));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_addsNothing() {
+        uniquePersonList.add(ALICE);
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
 }
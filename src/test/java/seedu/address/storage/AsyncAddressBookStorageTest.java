@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_thenRead_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_coalescedIntoLatestSnapshot() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<boolean[]> writtenAttendance = new ArrayList<>();
+        AddressBookStorage slowStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                writtenAttendance.add(addressBook.getGroupList().get(0).getGroupMemberDetail(ALICE).getAttendance());
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(slowStorage);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        Group group = new Group("CS2103T T12");
+        addressBook.addGroup(group);
+        addressBook.addPersonToGroup(ALICE, group);
+        storage.saveAddressBook(addressBook);
+        firstWriteStarted.await();
+
+        for (int week = 1; week <= 5; week++) {
+            addressBook.markAttendance(ALICE, group, week);
+            storage.saveAddressBook(addressBook);
+        }
+        releaseFirstWrite.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(2, writtenAttendance.size());
+        assertFalse(writtenAttendance.get(0)[0]);
+        assertTrue(writtenAttendance.get(1)[4]);
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFailed_reportedOnce() throws Exception {
+        IOException writeFailure = new IOException("disk full");
+        AddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw writeFailure;
+            }
+        };
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage);
+
+        storage.saveAddressBook(new AddressBook());
+        assertThrows(IOException.class, writeFailure.getMessage(), storage::flushAddressBook);
+        storage.flushAddressBook();
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterBackgroundWriteFailed_reportsFailure() throws Exception {
+        IOException writeFailure = new IOException("disk full");
+        int[] saveCount = {0};
+        AddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                throw writeFailure;
+            }
+        };
+        List<Runnable> writes = new ArrayList<>();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(failingStorage, writes::add);
+        Logic logic = new LogicManager(new ModelManager(), new StorageManager(storage,
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json"))));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        writes.remove(0).run();
+        assertEquals(1, saveCount[0]);
+
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                writeFailure.getMessage()), () -> logic.execute(ListCommand.COMMAND_WORD));
+
+        // the unsaved changes are saved again by the next command
+        logic.execute(ListCommand.COMMAND_WORD);
+        writes.remove(0).run();
+        assertEquals(2, saveCount[0]);
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupMemberDetail;
+import seedu.address.model.group.GroupMemberDetail.Role;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_noBinaryOrJsonFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"),
+                testFolder.resolve("addressbook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameDataAndGroupDetails() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"), null);
+        AddressBook original = getTypicalAddressBook();
+        Group group = new Group("CS2103T T12");
+        original.addGroup(group);
+        original.addPersonToGroup(ALICE, group);
+        original.addPersonToGroup(BENSON, group);
+        group.getGroupMemberDetail(BENSON).setRole(Role.TeachingAssistant);
+        original.addAssignmentToGroup("Lab 1", LocalDate.of(2099, 1, 1), group, 0.5f);
+        original.markAttendance(ALICE, group, 1);
+        original.markAttendance(ALICE, group, 13);
+        group.setWeeks(64);
+        original.markAttendance(ALICE, group, 64);
+        original.gradeAssignment(ALICE, group, "Lab 1", 7.5f);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Group readGroup = readBack.getGroupList().get(0);
+        GroupMemberDetail alice = readGroup.getGroupMemberDetail(ALICE);
+        assertArrayEquals(group.getGroupMemberDetail(ALICE).getAttendance(), alice.getAttendance());
+        assertEquals(Role.TeachingAssistant, readGroup.getGroupMemberDetail(BENSON).getRole());
+        assertEquals(7.5f, alice.getAssignmentGrade(readGroup.getAssignment("Lab 1")));
+        assertSame(readGroup, alice.getGroup());
+        assertEquals(64, readGroup.getWeeks());
+        assertEquals(ALICE.getId(), alice.getPerson().getId());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, null);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        FileUtil.writeToFile(filePath, "not a binary address book");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, null).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_importedIntoBinaryFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        ReadOnlyAddressBook imported = new BinaryAddressBookStorage(filePath, jsonFilePath).readAddressBook().get();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(imported));
+        assertTrue(Files.exists(filePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath, null).readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_afterSave_writesJsonDataFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"),
+                jsonFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(jsonFilePath));
+
+        storage.flushAddressBook();
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void flushAddressBook_nothingSavedSinceLastFlush_jsonDataFileUntouched() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"),
+                jsonFilePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flushAddressBook();
+        Files.delete(jsonFilePath);
+
+        storage.flushAddressBook();
+
+        assertFalse(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFileModifiedAfterBinaryFile_jsonFileImportedAgain() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+        storage.saveAddressBook(new AddressBook());
+        storage.flushAddressBook();
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(jsonFilePath,
+                FileTime.fromMillis(Files.getLastModifiedTime(filePath).toMillis() + 1000));
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath, null).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_binaryFileModifiedAfterJsonFile_jsonFileRewrittenOnFlush() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(new AddressBook());
+        new BinaryAddressBookStorage(filePath, null).saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(filePath,
+                FileTime.fromMillis(Files.getLastModifiedTime(jsonFilePath).toMillis() + 1000));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        storage.flushAddressBook();
+
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+}
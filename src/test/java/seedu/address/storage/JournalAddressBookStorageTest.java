@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        original.setPerson(BENSON, editedBenson);
+        original.removePerson(CARL);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Group group = new Group("CS2103T T12");
+        original.addGroup(group);
+        original.addPersonToGroup(ALICE, group);
+        original.addAssignmentToGroup("Lab 1", LocalDate.of(2099, 1, 1), group, 1f);
+        original.markAttendance(ALICE, group, 3);
+        original.gradeAssignment(ALICE, group, "Lab 1", 7f);
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        storage.flushAddressBook();
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        Group readGroup = readBack.getGroupList().get(0);
+        assertArrayEquals(group.getGroupMemberDetail(ALICE).getAttendance(),
+                readGroup.getGroupMemberDetail(ALICE).getAttendance());
+        assertEquals(group.getGroupMemberDetail(ALICE).getGrades().values(),
+                readGroup.getGroupMemberDetail(ALICE).getGrades().values());
+    }
+
+    @Test
+    public void saveAddressBook_renamedPerson_keepsPosition() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Renamed").build());
+        storage.saveAddressBook(original);
+
+        storage.flushAddressBook();
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        ReadOnlyAddressBook snapshot = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"op\":\"removePer".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        storage.flushAddressBook();
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+}
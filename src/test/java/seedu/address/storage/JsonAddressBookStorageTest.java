@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +95,111 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compactMode_writesSingleLineThatReadsBack() throws Exception {
+        Path filePath = testFolder.resolve("CompactAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(filePath, true);
+
+        compactStorage.saveAddressBook(original);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressedFileName_savedCompressedAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json" + JsonAddressBookStorage.COMPRESSED_FILE_EXTENSION);
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(filePath))) {
+            assertTrue(new String(in.readAllBytes(), StandardCharsets.UTF_8).contains(ALICE.getName().fullName));
+        }
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compressedFileWithoutExtension_detectedFromContent() throws Exception {
+        Path compressedPath = testFolder.resolve("TempAddressBook.json.gz");
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(compressedPath).saveAddressBook(getTypicalAddressBook());
+        Files.move(compressedPath, filePath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(new JsonAddressBookStorage(filePath)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writesChecksumOfDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        JsonAddressBookChecksum saved = JsonUtil.readJsonFile(JsonAddressBookChecksum.getChecksumFilePath(filePath),
+                JsonAddressBookChecksum.class).get();
+        assertEquals(JsonAddressBookChecksum.of(filePath), saved);
+    }
+
+    @Test
+    public void readAddressBook_fileEditedAfterSave_validatedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace(ALICE.getEmail().value, "not an email"));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_checksumMatches_notValidated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        // An invalid value that the checksum vouches for is trusted, showing that validation was skipped.
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace(ALICE.getEmail().value, "not an email"));
+        JsonUtil.saveJsonFile(JsonAddressBookChecksum.of(filePath),
+                JsonAddressBookChecksum.getChecksumFilePath(filePath));
+
+        assertEquals("not an email", storage.readAddressBook().get().getPersonList().get(0).getEmail().value);
+    }
+
+    @Test
+    public void readAddressBook_checksumMatches_memberDetailsLoadedWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Group group = new Group("CS2103T T12");
+        original.addGroup(group);
+        original.addPersonToGroup(ALICE, group);
+        original.markAttendance(ALICE, group, 3);
+        storage.saveAddressBook(original);
+
+        Group readGroup = storage.readAddressBook().get().getGroupList().get(0);
+
+        assertTrue(readGroup.isMemberDetailsPending());
+        assertEquals(List.of(ALICE), readGroup.getGroupMembers());
+        assertTrue(readGroup.getGroupMemberDetail(ALICE).getAttendance()[2]);
+        assertFalse(readGroup.isMemberDetailsPending());
+    }
+
+    @Test
+    public void readAddressBook_checksumOfOlderSchemaVersion_validatedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace(ALICE.getEmail().value, "not an email"));
+        String checksum = JsonUtil.toJsonString(JsonAddressBookChecksum.of(filePath));
+        FileUtil.writeToFile(JsonAddressBookChecksum.getChecksumFilePath(filePath), checksum.replace(
+                "\"schemaVersion\" : " + JsonSerializableAddressBook.SCHEMA_VERSION, "\"schemaVersion\" : 0"));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
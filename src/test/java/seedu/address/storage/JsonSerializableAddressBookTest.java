@@ -1,16 +1,33 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupMemberDetail;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +37,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -44,4 +64,196 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void putPerson_mixedWithRemovals_keepsPositions() throws Exception {
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(new AddressBook());
+        data.putPerson(0, new JsonAdaptedPerson(ALICE));
+        data.putPerson(1, new JsonAdaptedPerson(CARL));
+        data.putPerson(1, new JsonAdaptedPerson(BENSON));
+        data.removePerson(ALICE.getName().fullName);
+        data.putPerson(2, new JsonAdaptedPerson(DANIEL));
+        data.putPerson(5, new JsonAdaptedPerson(new PersonBuilder(BENSON).withPhone("999").build()));
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(new PersonBuilder(BENSON).withPhone("999").build());
+        expected.addPerson(CARL);
+        expected.addPerson(DANIEL);
+        assertEquals(expected, data.toModelType());
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_writtenAddressBookWithGroups_sameAsOriginal() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        Group group = new Group("CS2103T T12");
+        original.addGroup(group);
+        original.addPersonToGroup(ALICE, group);
+        original.addPersonToGroup(BENSON, group);
+        original.addAssignmentToGroup("Lab 1", LocalDate.of(2099, 1, 1), group, 1f);
+        original.markAttendance(BENSON, group, 2);
+        original.gradeAssignment(ALICE, group, "Lab 1", 7f);
+        Path file = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), file);
+
+        AddressBook readBack = read(file);
+
+        assertEquals(original, readBack);
+        Group readGroup = readBack.getGroupList().get(0);
+        assertEquals(new ArrayList<>(group.getGroupMembersMap().keySet()),
+                new ArrayList<>(readGroup.getGroupMembersMap().keySet()));
+        assertArrayEquals(group.getGroupMemberDetail(BENSON).getAttendance(),
+                readGroup.getGroupMemberDetail(BENSON).getAttendance());
+        assertEquals(group.getGroupMemberDetail(ALICE).getGrades().values(),
+                readGroup.getGroupMemberDetail(ALICE).getGrades().values());
+        assertEquals(readGroup, readGroup.getGroupMemberDetail(ALICE).getGroup());
+    }
+
+    @Test
+    public void read_writtenAddressBook_personIdsKeptAndGroupMembersKeyedById() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        Group group = new Group("CS2103T T12");
+        original.addGroup(group);
+        original.addPersonToGroup(ALICE, group);
+        Path file = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), file);
+
+        AddressBook readBack = read(file);
+
+        assertEquals(ALICE.getId(), readBack.getPerson(ALICE.getName()).getId());
+        assertEquals(ALICE.getId(), readBack.getGroupList().get(0).get(0).getId());
+        assertTrue(Files.readString(file).contains("\"" + ALICE.getId() + "\" : {"));
+    }
+
+    @Test
+    public void read_writtenGrades_keyedByGroupAssignments() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        Group group = new Group("CS2103T T12");
+        original.addGroup(group);
+        original.addPersonToGroup(ALICE, group);
+        original.addAssignmentToGroup("Lab 1", LocalDate.of(2099, 1, 1), group, 1f);
+        original.gradeAssignment(ALICE, group, "Lab 1", 7f);
+        Path file = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), file);
+
+        Group readGroup = read(file).getGroupList().get(0);
+
+        assertEquals(7f, readGroup.getGroupMemberDetail(ALICE).getAssignmentGrade(readGroup.getAssignment("Lab 1")));
+        // The assignment is only written out once, in the group
+        assertEquals(1, Files.readString(file).split("\"Lab 1\" :", -1).length - 1);
+    }
+
+    @Test
+    public void read_gradesWithAssignmentCopies_keyedByGroupAssignments() throws Exception {
+        Path file = testFolder.resolve("addressbook.json");
+        Files.writeString(file, "{\"persons\": [{\"name\": \"Alice Pauline\", \"phone\": \"94351253\", "
+                + "\"email\": \"alice@example.com\", \"address\": \"4th street\"}], \"groups\": [{\"name\": "
+                + "\"T01\", \"persons\": {\"Alice Pauline\": {\"Role\": \"Student\", \"attendance\": "
+                + "[false, false, false, false, false, false, false, false, false, false, false, false, false], "
+                + "\"grades\": {\"Lab 1\": 7.0}, \"assignments\": {\"Lab 1\": {\"name\": \"Lab 1\", "
+                + "\"date\": \"2099-01-01\", \"penalty\": 1.0}}}}, \"assignments\": [{\"name\": \"Lab 1\", "
+                + "\"date\": \"2099-01-01\", \"penalty\": 1.0}]}]}", StandardCharsets.UTF_8);
+
+        Group readGroup = read(file).getGroupList().get(0);
+
+        assertEquals(7f, readGroup.getGroupMemberDetail(readGroup.get(0))
+                .getAssignmentGrade(readGroup.getAssignment("Lab 1")));
+    }
+
+    @Test
+    public void read_writtenAttendance_keptAsBitsWithWeeksOfGroup() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        Group group = new Group("CS2103T T12");
+        original.addGroup(group);
+        original.addPersonToGroup(ALICE, group);
+        group.setWeeks(40);
+        original.markAttendance(ALICE, group, 2);
+        original.markAttendance(ALICE, group, 40);
+        Path file = testFolder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), file);
+
+        Group readGroup = read(file).getGroupList().get(0);
+
+        assertEquals(40, readGroup.getWeeks());
+        assertEquals(group.getGroupMemberDetail(ALICE).getAttendanceBits(),
+                readGroup.getGroupMemberDetail(ALICE).getAttendanceBits());
+        assertTrue(Files.readString(file).contains("\"attendanceBits\" : " + ((1L << 39) | 0b10)));
+    }
+
+    @Test
+    public void read_attendanceAsBooleans_readAsBits() throws Exception {
+        Path file = testFolder.resolve("addressbook.json");
+        Files.writeString(file, "{\"persons\": [{\"name\": \"Alice Pauline\", \"phone\": \"94351253\", "
+                + "\"email\": \"alice@example.com\", \"address\": \"4th street\"}], \"groups\": [{\"name\": "
+                + "\"T01\", \"persons\": {\"Alice Pauline\": {\"Role\": \"Student\", \"attendance\": "
+                + "[true, false, true, false, false, false, false, false, false, false, false, false, true]}}}]}",
+                StandardCharsets.UTF_8);
+
+        Group readGroup = read(file).getGroupList().get(0);
+
+        assertEquals(GroupMemberDetail.WEEKS_PER_SEMESTER, readGroup.getWeeks());
+        assertEquals(0b1_0000_0000_0101L, readGroup.getGroupMemberDetail(readGroup.get(0)).getAttendanceBits());
+    }
+
+    @Test
+    public void read_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("addressbook.json");
+        Files.writeString(file, "{\"persons\": [{\"id\": 7, \"name\": \"Alice Pauline\", \"phone\": \"94351253\", "
+                + "\"email\": \"alice@example.com\", \"address\": \"4th street\"}, {\"id\": 7, "
+                + "\"name\": \"Benson Meier\", \"phone\": \"98765432\", \"email\": \"johnd@example.com\", "
+                + "\"address\": \"4th street\"}]}", StandardCharsets.UTF_8);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID, () ->
+                read(file));
+    }
+
+    @Test
+    public void read_invalidMemberId_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("addressbook.json");
+        Files.writeString(file, "{\"persons\": [], \"groups\": [{\"name\": \"T01\", \"members\": "
+                + "{\"Alice Pauline\": {\"Role\": \"Student\"}}}]}", StandardCharsets.UTF_8);
+        assertThrows(IllegalValueException.class, () -> read(file));
+    }
+
+    @Test
+    public void read_groupsBeforePersons_membersResolved() throws Exception {
+        Path file = testFolder.resolve("addressbook.json");
+        Files.writeString(file, "{\"groups\": [{\"name\": \"T01\", \"persons\": {\"Alice Pauline\": "
+                + "{\"Role\": \"Student\", \"attendance\": [false, false, false, false, false, false, false, "
+                + "false, false, false, false, false, false]}}}], \"persons\": [{\"name\": \"Alice Pauline\", "
+                + "\"phone\": \"94351253\", \"email\": \"alice@example.com\", "
+                + "\"address\": \"123, Jurong West Ave 6, #08-111\", \"tags\": [\"friends\"]}]}",
+                StandardCharsets.UTF_8);
+
+        AddressBook readBack = read(file);
+
+        assertEquals(1, readBack.getGroupsOfPerson(ALICE).size());
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("addressbook.json");
+        Files.writeString(file, "[]", StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> read(file));
+    }
+
+    private static AddressBook read(Path file) throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonParser(file)) {
+            return JsonSerializableAddressBook.read(parser, false);
+        }
+    }
+
 }
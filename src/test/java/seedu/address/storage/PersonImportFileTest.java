@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonImportFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readRows_csv_readsEveryPersonInOrder() throws Exception {
+        Path file = write("cohort.csv", "name,phone,email,address,tags\n"
+                + "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",friends tutor\n"
+                + "\n"
+                + "Bob Choo,22222222,bob@example.com,Block 123 Bobby Street 3\n");
+
+        List<PersonImportFile.Row> rows = PersonImportFile.readRows(file);
+        List<Person> persons = PersonImportFile.toModelType(rows);
+
+        assertEquals(List.of(2, 4), rows.stream().map(PersonImportFile.Row::lineNumber).toList());
+        assertEquals(new PersonBuilder().withName("Amy Bee").withPhone("11111111").withEmail("amy@example.com")
+                .withAddress("Block 312, Amy Street 1").withTags("friends", "tutor").build(), persons.get(0));
+        assertEquals(new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                .withAddress("Block 123 Bobby Street 3").withTags().build(), persons.get(1));
+    }
+
+    @Test
+    public void readRows_jsonLines_givesNewIds() throws Exception {
+        Path file = write("cohort.jsonl", "{\"id\": 1, \"name\": \"Amy Bee\", \"phone\": \"11111111\", "
+                + "\"email\": \"amy@example.com\", \"address\": \"Amy Street\", \"tags\": [\"friends\"]}\n"
+                + "{\"id\": 1, \"name\": \"Bob Choo\", \"phone\": \"22222222\", "
+                + "\"email\": \"bob@example.com\", \"address\": \"Bobby Street\"}\n");
+
+        List<Person> persons = PersonImportFile.toModelType(PersonImportFile.readRows(file));
+
+        assertEquals(2, persons.size());
+        assertEquals("Bob Choo", persons.get(1).getName().fullName);
+        assertNotEquals(persons.get(0).getId(), persons.get(1).getId());
+    }
+
+    @Test
+    public void readRows_malformedRow_throwsIllegalValueException() throws Exception {
+        Path csv = write("cohort.csv", "Amy Bee,11111111\n");
+        Path jsonLines = write("cohort.ndjson", "{\"name\": \n");
+        Path json = write("cohort.json", "{\"name\": \"Amy Bee\"}\n");
+
+        assertThrows(IllegalValueException.class, String.format(PersonImportFile.MESSAGE_INVALID_CSV_ROW, 1), ()
+            -> PersonImportFile.readRows(csv));
+        assertThrows(IllegalValueException.class, String.format(PersonImportFile.MESSAGE_INVALID_JSON_ROW, 1), ()
+            -> PersonImportFile.readRows(jsonLines));
+        // a .json file is not read as json lines, so that a saved data file is not mistaken for one
+        assertThrows(IllegalValueException.class, String.format(PersonImportFile.MESSAGE_INVALID_CSV_ROW, 1), ()
+            -> PersonImportFile.readRows(json));
+    }
+
+    @Test
+    public void toModelType_invalidPersons_reportsFirstInvalidLine() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("Person ").append(i).append(",12345678,")
+                    .append(i == 700 || i == 900 ? "not an email" : "p" + i + "@example.com").append(",Street\n");
+        }
+        List<PersonImportFile.Row> rows = new ArrayList<>(PersonImportFile.readRows(write("many.csv",
+                content.toString())));
+
+        assertThrows(IllegalValueException.class, String.format(PersonImportFile.MESSAGE_INVALID_PERSON, 701,
+                Email.MESSAGE_CONSTRAINTS), () -> PersonImportFile.toModelType(rows));
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(testFolder.resolve(fileName), content);
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupMemberDetail;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final String UNTOUCHED = "untouched";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getShardFolderPath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook-shards"),
+                ShardedAddressBookStorage.getShardFolderPath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_noManifestOrJsonFile_emptyResult() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("shards"),
+                testFolder.resolve("addressbook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_thenRead_sameDataAndGroupDetails() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("shards"), null);
+        AddressBook original = createAddressBook();
+        Group group = original.getGroupList().get(0);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new ShardedAddressBookStorage(testFolder.resolve("shards"), null)
+                .readAddressBook().get();
+
+        assertEquals(original, new AddressBook(readBack));
+        Group readGroup = readBack.getGroupList().get(0);
+        GroupMemberDetail alice = readGroup.getGroupMemberDetail(ALICE);
+        assertArrayEquals(group.getGroupMemberDetail(ALICE).getAttendance(), alice.getAttendance());
+        assertEquals(7.5f, alice.getAssignmentGrade(readGroup.getAssignment("Lab 1")));
+    }
+
+    @Test
+    public void saveAddressBook_oneGroupChanged_onlyThatShardRewritten() throws Exception {
+        Path folder = testFolder.resolve("shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(folder, null);
+        AddressBook addressBook = createAddressBook();
+        storage.saveAddressBook(addressBook);
+        JsonShardManifest before = readManifest(folder);
+        FileUtil.writeToFile(folder.resolve(before.getPersons()), UNTOUCHED);
+        FileUtil.writeToFile(folder.resolve(before.getGroups().get(0)), UNTOUCHED);
+
+        addressBook.markAttendance(CARL, addressBook.getGroupList().get(1), 2);
+        storage.saveAddressBook(addressBook);
+
+        JsonShardManifest after = readManifest(folder);
+        assertEquals(before.getPersons(), after.getPersons());
+        assertEquals(before.getGroups().get(0), after.getGroups().get(0));
+        assertEquals(UNTOUCHED, FileUtil.readFromFile(folder.resolve(after.getPersons())));
+        assertEquals(UNTOUCHED, FileUtil.readFromFile(folder.resolve(after.getGroups().get(0))));
+    }
+
+    @Test
+    public void saveAddressBook_shardChanged_writtenToNewFileAndOldFileDeleted() throws Exception {
+        Path folder = testFolder.resolve("shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(folder, null);
+        AddressBook addressBook = createAddressBook();
+        storage.saveAddressBook(addressBook);
+        JsonShardManifest before = readManifest(folder);
+
+        addressBook.markAttendance(CARL, addressBook.getGroupList().get(1), 2);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        JsonShardManifest after = readManifest(folder);
+        assertFalse(after.getPersons().equals(before.getPersons()));
+        assertFalse(after.getGroups().get(1).equals(before.getGroups().get(1)));
+        assertFalse(Files.exists(folder.resolve(before.getPersons())));
+        assertFalse(Files.exists(folder.resolve(before.getGroups().get(1))));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(folder, null)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_newStorageOverExistingShards_listedShardsNotOverwritten() throws Exception {
+        Path folder = testFolder.resolve("shards");
+        new ShardedAddressBookStorage(folder, null).saveAddressBook(createAddressBook());
+        JsonShardManifest before = readManifest(folder);
+
+        new ShardedAddressBookStorage(folder, null).saveAddressBook(getTypicalAddressBook());
+
+        JsonShardManifest after = readManifest(folder);
+        assertFalse(after.getPersons().equals(before.getPersons()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(new ShardedAddressBookStorage(folder, null)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_groupRemoved_shardDeleted() throws Exception {
+        Path folder = testFolder.resolve("shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(folder, null);
+        AddressBook addressBook = createAddressBook();
+        storage.saveAddressBook(addressBook);
+        String removedFile = readManifest(folder).getGroups().get(0);
+
+        addressBook.removeGroup(addressBook.getGroupList().get(0));
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(folder.resolve(removedFile)));
+        assertEquals(1, readManifest(folder).getGroups().size());
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(folder, null)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_onlyJsonFile_importedIntoShards() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path folder = testFolder.resolve("shards");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(createAddressBook());
+
+        ReadOnlyAddressBook imported = new ShardedAddressBookStorage(folder, jsonFilePath).readAddressBook().get();
+
+        assertEquals(createAddressBook(), new AddressBook(imported));
+        assertTrue(Files.exists(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE)));
+        assertEquals(createAddressBook(),
+                new AddressBook(new ShardedAddressBookStorage(folder, null).readAddressBook().get()));
+    }
+
+    private static JsonShardManifest readManifest(Path folder) throws Exception {
+        return JsonUtil.readJsonFile(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE),
+                JsonShardManifest.class).get();
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Group tutorial = new Group("CS2103T T12");
+        addressBook.addGroup(tutorial);
+        addressBook.addPersonToGroup(ALICE, tutorial);
+        addressBook.addPersonToGroup(BENSON, tutorial);
+        addressBook.addAssignmentToGroup("Lab 1", LocalDate.of(2099, 1, 1), tutorial, 0.5f);
+        addressBook.markAttendance(ALICE, tutorial, 1);
+        addressBook.gradeAssignment(ALICE, tutorial, "Lab 1", 7.5f);
+        Group lab = new Group("CS2103T L01");
+        addressBook.addGroup(lab);
+        addressBook.addPersonToGroup(CARL, lab);
+        return addressBook;
+    }
+}